@@ -2,11 +2,13 @@ package cipm.consistency.commitintegration.diff.util;
 
 import java.util.List;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.compare.match.IMatchEngine;
 import org.eclipse.emf.compare.match.eobject.EqualityHelperExtensionProvider;
 import org.eclipse.emf.compare.match.eobject.EqualityHelperExtensionProviderDescriptorRegistryImpl;
 import org.eclipse.emf.compare.rcp.EMFCompareRCPPlugin;
 import org.eclipse.emf.compare.utils.EqualityHelper;
+import org.eclipse.emf.ecore.EObject;
 import org.splevo.diffing.match.HierarchicalMatchEngineFactory;
 import org.splevo.diffing.match.HierarchicalStrategyResourceMatcher;
 import org.splevo.jamopp.diffing.match.JaMoPPEqualityStrategy;
@@ -15,6 +17,7 @@ import org.splevo.jamopp.diffing.scope.PackageIgnoreChecker;
 import org.splevo.jamopp.diffing.similarity.SimilarityChecker;
 
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.LoadingCache;
 
 /**
  * A generator for HierarchicalMatchEngineFactories.
@@ -33,12 +36,24 @@ public final class HierarchicalMatchEngineFactoryGenerator {
 	 * @return the generated factory.
 	 */
 	public static HierarchicalMatchEngineFactory generateMatchEngineFactory(SimilarityChecker simChecker, String key) {
+		return generateMatchEngineFactory(simChecker, key, EqualityHelper.createDefaultCache(CacheBuilder.newBuilder()));
+	}
+	
+	/**
+	 * Generates a HierarchicalMatchEngineFactory whose equality helper uses a given cache.
+	 * 
+	 * @param simChecker the SimilarityChecker which is internally used to compare model elements.
+	 * @param key a key to identify the compared models.
+	 * @param equalityCache the cache for the URIs of the compared model elements.
+	 * @return the generated factory.
+	 */
+	public static HierarchicalMatchEngineFactory generateMatchEngineFactory(SimilarityChecker simChecker, String key,
+			LoadingCache<EObject, URI> equalityCache) {
 		EqualityHelperExtensionProvider.Descriptor.Registry descRegistryImpl =
 				EqualityHelperExtensionProviderDescriptorRegistryImpl.createStandaloneInstance();
 		descRegistryImpl.put(key, new SimilarityCheckerBasedEqualityHelperExtensionProviderDescriptor(simChecker));
 		return new HierarchicalMatchEngineFactory(
-				new EqualityHelper(EqualityHelper.createDefaultCache(
-						CacheBuilder.newBuilder()), descRegistryImpl),
+				new EqualityHelper(equalityCache, descRegistryImpl),
 				new JaMoPPEqualityStrategy(simChecker),
 				new JaMoPPIgnoreStrategy(new PackageIgnoreChecker(List.of())),
 				new HierarchicalStrategyResourceMatcher());
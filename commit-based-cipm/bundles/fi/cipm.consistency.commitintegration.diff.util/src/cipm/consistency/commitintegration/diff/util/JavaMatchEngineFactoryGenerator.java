@@ -1,8 +1,12 @@
 package cipm.consistency.commitintegration.diff.util;
 
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
 import org.splevo.diffing.match.HierarchicalMatchEngineFactory;
 import org.splevo.jamopp.diffing.similarity.SimilarityChecker;
 
+import com.google.common.cache.LoadingCache;
+
 /**
  * A generator for HierarchicalMatchEngineFactories specific to Java models.
  * 
@@ -20,4 +24,15 @@ public final class JavaMatchEngineFactoryGenerator {
 	public static HierarchicalMatchEngineFactory generateMatchEngineFactory() {
 		return HierarchicalMatchEngineFactoryGenerator.generateMatchEngineFactory(new SimilarityChecker(), "javaxmi");
 	}
+	
+	/**
+	 * Generates the HierarchicalMatchEngineFactory with a given cache for the equality helper.
+	 * 
+	 * @param equalityCache the cache for the URIs of the compared model elements.
+	 * @return the generated factory.
+	 */
+	public static HierarchicalMatchEngineFactory generateMatchEngineFactory(LoadingCache<EObject, URI> equalityCache) {
+		return HierarchicalMatchEngineFactoryGenerator.generateMatchEngineFactory(new SimilarityChecker(), "javaxmi",
+				equalityCache);
+	}
 }
@@ -11,7 +11,9 @@ import org.eclipse.emf.compare.postprocessor.BasicPostProcessorDescriptorImpl;
 import org.eclipse.emf.compare.postprocessor.PostProcessorDescriptorRegistryImpl;
 import java.util.regex.Pattern;
 import java.util.List;
+import java.util.Map;
 import org.emftext.language.java.JavaPackage;
+import org.splevo.jamopp.diffing.JaMoPPDiffer;
 import org.splevo.jamopp.diffing.scope.PackageIgnoreChecker;
 import org.splevo.jamopp.diffing.diff.JaMoPPFeatureFilter;
 import org.eclipse.emf.compare.postprocessor.IPostProcessor;
@@ -43,6 +45,27 @@ public final class JavaModelComparator {
 	public static Comparison compareJavaModels(Notifier newState, Notifier currentState,
 			List<Resource> newResources, List<Resource> currentResources,
 			IPostProcessor postProcessor) {
+		return compareJavaModels(newState, currentState, newResources, currentResources, postProcessor, Map.of());
+	}
+	
+	/**
+	 * Compares Java models using EMF Compare with a configured equality cache.
+	 * 
+	 * @param newState contains the new state.
+	 * @param currentState contains the current or old state compared to the new state.
+	 * @param newResources a list of Resources which represent the new state of Java models.
+	 *                     If the newState is a ResourceSet, this list is used to filter the Resources in the newState.
+	 * @param currentResources a list of Resources which represent the current or old state of Java models.
+	 *                         If the currentState is a ResourceSet, this list is used to filter the Resources in the
+	 *                         currentState.
+	 * @param postProcessor an optional post processor for the comparison process.
+	 * @param diffingOptions the equality cache options of the JaMoPPDiffer. If the statistics are recorded, they are
+	 *                       published through the JaMoPPDiffer after the comparison.
+	 * @return the comparison result.
+	 */
+	public static Comparison compareJavaModels(Notifier newState, Notifier currentState,
+			List<Resource> newResources, List<Resource> currentResources,
+			IPostProcessor postProcessor, Map<String, String> diffingOptions) {
 		
 		var scope = new ResourceListFilteringComparisonScope(newState, currentState, newResources, currentResources);
 		scope.getNsURIs().add(JavaPackage.eNS_URI);
@@ -56,9 +79,10 @@ public final class JavaModelComparator {
 			}
 		};
 		
+		var equalityCache = JaMoPPDiffer.createEqualityCache(diffingOptions);
 		var engineRegistry = HierarchicalMatchEngineFactoryGenerator
 				.generateMatchEngineRegistry(JavaMatchEngineFactoryGenerator
-						.generateMatchEngineFactory());
+						.generateMatchEngineFactory(equalityCache));
 		
 		var builder = EMFCompare.builder()
 			.setMatchEngineFactoryRegistry(engineRegistry)
@@ -71,6 +95,8 @@ public final class JavaModelComparator {
 			builder.setPostProcessorRegistry(processorRegistry);
 		}
 		
-		return builder.build().compare(scope);
+		var comparison = builder.build().compare(scope);
+		JaMoPPDiffer.publishEqualityCacheStatistics(equalityCache, diffingOptions);
+		return comparison;
 	}
 }
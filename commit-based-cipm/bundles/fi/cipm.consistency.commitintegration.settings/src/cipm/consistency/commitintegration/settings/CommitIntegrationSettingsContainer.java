@@ -4,7 +4,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * A container for the settings of the commit-based integration.
@@ -13,11 +18,24 @@ import java.util.Properties;
  */
 public final class CommitIntegrationSettingsContainer {
 	private static CommitIntegrationSettingsContainer instance;
+	private static volatile int generation;
 	private Path settingsFile;
 	private Properties properties;
+	private final Map<String, Set<String>> parsedSets = new HashMap<>();
 	
 	public static void initialize(Path path) {
 		instance = new CommitIntegrationSettingsContainer(path);
+		generation++;
+	}
+	
+	/**
+	 * Returns the generation of the settings. It changes whenever the settings are initialized, so that values
+	 * derived from the settings can be rebuilt after a change.
+	 * 
+	 * @return the generation of the settings.
+	 */
+	public static int getGeneration() {
+		return generation;
 	}
 	
 	public static CommitIntegrationSettingsContainer getSettingsContainer() {
@@ -42,4 +60,22 @@ public final class CommitIntegrationSettingsContainer {
 	public boolean getPropertyAsBoolean(String key) {
 		return Boolean.parseBoolean(getProperty(key));
 	}
+	
+	/**
+	 * Returns a property as a set of values which are separated by semicolons. The property is only parsed once
+	 * because the properties of a container do not change. Re-initializing the settings creates a new container.
+	 * 
+	 * @param key the key of the property.
+	 * @return an immutable set of the non-empty values. It is empty if the property is not set.
+	 */
+	public Set<String> getPropertyAsSet(String key) {
+		return parsedSets.computeIfAbsent(key, k -> {
+			String value = getProperty(k);
+			if (value == null) {
+				return Set.of();
+			}
+			return Arrays.stream(value.split(";")).filter(v -> !v.isEmpty())
+					.collect(Collectors.toUnmodifiableSet());
+		});
+	}
 }
@@ -46,6 +46,20 @@ public final class SettingKeys {
 	 * A list of packages which realize a REST Client to identify REST calls.
 	 */
 	public static final String REST_CLIENT_API_PACKAGES = KEY_BASE + "rest.packages";
+	/**
+	 * The maximum size of the equality cache used when comparing Java models.
+	 * A negative value disables the eviction.
+	 */
+	public static final String EQUALITY_CACHE_MAX_SIZE = KEY_BASE + "diff.cache.size";
+	/**
+	 * The weigher of the equality cache used when comparing Java models.
+	 * With "uri", the entries are weighed by their URI length.
+	 */
+	public static final String EQUALITY_CACHE_WEIGHER = KEY_BASE + "diff.cache.weigher";
+	/**
+	 * A setting which controls if statistics of the equality cache are recorded.
+	 */
+	public static final String EQUALITY_CACHE_RECORD_STATS = KEY_BASE + "diff.cache.statistics";
 	
 	private SettingKeys() {
 	}
@@ -21,6 +21,11 @@ import org.apache.log4j.Logger
 import cipm.consistency.commitintegration.diff.util.JavaModelComparator
 import cipm.consistency.tools.evaluation.data.EvaluationDataContainer
 import cipm.consistency.commitintegration.diff.util.JavaChangedMethodDetectorDiffPostProcessor
+import cipm.consistency.commitintegration.settings.CommitIntegrationSettingsContainer
+import cipm.consistency.commitintegration.settings.SettingKeys
+import java.util.HashMap
+import java.util.Map
+import org.splevo.jamopp.diffing.JaMoPPDiffer
 
 /**
  * This strategy for diff based state changes of Java models uses EMFCompare to resolve a 
@@ -156,16 +161,36 @@ class JavaStateBasedChangeResolutionStrategy implements StateBasedChangeResoluti
 			List<Resource> newResources, List<Resource> currentResources) {
 		val postProcessor = new JavaChangedMethodDetectorDiffPostProcessor()
 		val changes = JavaModelComparator.compareJavaModels(newState, currentState,
-				newResources, currentResources, postProcessor).differences
+				newResources, currentResources, postProcessor, createDiffingOptions).differences
 		// Replay the EMF compare differences.
 		val mergerRegistry = IMerger.RegistryImpl.createStandaloneInstance()
 		val merger = new BatchMerger(mergerRegistry)
 		merger.copyAllLeftToRight(changes, new BasicMonitor)
-		postProcessor.getChangedMethods.forEach[
-			val oldName = it.name
-			it.name = ""
-			it.name = oldName
-		]
+		// Signal the changed methods with one change per method.
+		MethodBodyChangeSignal.signalChangedMethods(postProcessor.getChangedMethods)
+	}
+
+	/**
+	 * Converts the equality cache settings into the diffing options of the JaMoPPDiffer.
+	 */
+	private def Map<String, String> createDiffingOptions() {
+		val settings = CommitIntegrationSettingsContainer.settingsContainer
+		val options = new HashMap<String, String>
+		if (settings === null) {
+			return options
+		}
+		val maximumSize = settings.getProperty(SettingKeys.EQUALITY_CACHE_MAX_SIZE)
+		if (maximumSize !== null) {
+			options.put(JaMoPPDiffer.OPTION_EQUALITY_CACHE_MAX_SIZE, maximumSize)
+		}
+		val weigher = settings.getProperty(SettingKeys.EQUALITY_CACHE_WEIGHER)
+		if (weigher !== null) {
+			options.put(JaMoPPDiffer.OPTION_EQUALITY_CACHE_WEIGHER, weigher)
+		}
+		if (settings.getPropertyAsBoolean(SettingKeys.EQUALITY_CACHE_RECORD_STATS)) {
+			options.put(JaMoPPDiffer.OPTION_EQUALITY_CACHE_RECORD_STATS, Boolean.TRUE.toString)
+		}
+		return options
 	}
 
 	/**
@@ -0,0 +1,115 @@
+package cipm.consistency.domains.java.propagation;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.emftext.language.java.commons.CommonsPackage;
+import org.emftext.language.java.members.Method;
+
+import tools.vitruv.framework.change.echange.EChange;
+import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
+
+/**
+ * Signals that the body of a method has changed so that the SEFF reconstruction can be triggered.
+ *
+ * For every changed method, exactly one change is recorded: a replacement of the method name whose old value is the
+ * {@link #SIGNAL_VALUE} and whose new value is the actual (unchanged) name of the method. As the method name is not
+ * modified by this change, it can be ignored by all change propagation rules reacting to renamed members.
+ *
+ * The methods signaled within one change sequence form a batch. The signal of the last method in the batch uses the
+ * {@link #BATCH_END_SIGNAL_VALUE} as old value so that the changed methods can be collected from the change sequence
+ * itself and processed together when the last signal is propagated.
+ */
+public final class MethodBodyChangeSignal {
+	/**
+	 * The old value of the name change which marks a changed method body.
+	 */
+	public static final String SIGNAL_VALUE = "";
+	/**
+	 * The old value of the name change which marks the changed method body of the last method in a batch. As it is not
+	 * a valid Java identifier, it cannot be the name of a method.
+	 */
+	public static final String BATCH_END_SIGNAL_VALUE = "#";
+
+	private MethodBodyChangeSignal() {
+	}
+
+	/**
+	 * Records the signal for a changed method as a batch with only this method.
+	 *
+	 * @param method the changed method.
+	 */
+	public static void signalChangedMethod(Method method) {
+		signalChangedMethod(method, BATCH_END_SIGNAL_VALUE);
+	}
+
+	/**
+	 * Records the signals for all changed methods of one change sequence as one batch. This method is expected to be
+	 * called after all other changes of the change sequence have been performed so that the signals are the last
+	 * changes of the sequence.
+	 *
+	 * @param methods the changed methods.
+	 */
+	public static void signalChangedMethods(Collection<Method> methods) {
+		Iterator<Method> iterator = methods.iterator();
+		while (iterator.hasNext()) {
+			Method method = iterator.next();
+			signalChangedMethod(method, iterator.hasNext() ? SIGNAL_VALUE : BATCH_END_SIGNAL_VALUE);
+		}
+	}
+
+	/**
+	 * Records the signal for a changed method. The name of the method is set to the signal value without
+	 * notifying any adapters. Afterward, the name is restored with a notification so that only one change is
+	 * recorded.
+	 *
+	 * @param method the changed method.
+	 * @param signalValue the signal value.
+	 */
+	private static void signalChangedMethod(Method method, String signalValue) {
+		String name = method.getName();
+		boolean deliver = method.eDeliver();
+		method.eSetDeliver(false);
+		method.setName(signalValue);
+		method.eSetDeliver(deliver);
+		method.setName(name);
+	}
+
+	/**
+	 * Checks if an old value of a name change marks a changed method body.
+	 *
+	 * @param oldValue the old value of the name change.
+	 * @return true if the old value is a signal value. false otherwise.
+	 */
+	public static boolean isSignalValue(Object oldValue) {
+		return SIGNAL_VALUE.equals(oldValue) || BATCH_END_SIGNAL_VALUE.equals(oldValue);
+	}
+
+	/**
+	 * Checks if a change signals a changed method body.
+	 *
+	 * @param change the change to check.
+	 * @return true if the change signals a changed method body. false otherwise.
+	 */
+	public static boolean isMethodBodyChangeSignal(EChange change) {
+		if (!(change instanceof ReplaceSingleValuedEAttribute)) {
+			return false;
+		}
+		var attrChange = (ReplaceSingleValuedEAttribute<?, ?>) change;
+		return attrChange.getAffectedEObject() instanceof Method
+				&& attrChange.getAffectedFeature() == CommonsPackage.Literals.NAMED_ELEMENT__NAME
+				&& isSignalValue(attrChange.getOldValue())
+				&& !isSignalValue(attrChange.getNewValue());
+	}
+
+	/**
+	 * Checks if a change signals the changed method body of the last method in a batch.
+	 *
+	 * @param change the change to check.
+	 * @return true if the change is the last signal of a batch. false otherwise.
+	 */
+	public static boolean isBatchEndSignal(EChange change) {
+		return isMethodBodyChangeSignal(change)
+				&& BATCH_END_SIGNAL_VALUE.equals(((ReplaceSingleValuedEAttribute<?, ?>) change).getOldValue());
+	}
+}
@@ -0,0 +1,34 @@
+package cipm.consistency.tools.evaluation.data;
+
+/**
+ * A data structure for statistics about the equality cache used when comparing Java models.
+ */
+public class EqualityCacheData {
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long evictionCount = 0;
+	
+	public long getHitCount() {
+		return hitCount;
+	}
+	
+	public void setHitCount(long hitCount) {
+		this.hitCount = hitCount;
+	}
+	
+	public long getMissCount() {
+		return missCount;
+	}
+	
+	public void setMissCount(long missCount) {
+		this.missCount = missCount;
+	}
+	
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+	
+	public void setEvictionCount(long evictionCount) {
+		this.evictionCount = evictionCount;
+	}
+}
@@ -28,6 +28,8 @@ public class EvaluationDataContainer {
 	private InstrumentationEvaluationData instrumentationData = new InstrumentationEvaluationData();
 	private InstrumentationEvaluationData instrumentationIndependentData = new InstrumentationEvaluationData();
 	private ExecutionTimeData executionTimes = new ExecutionTimeData();
+	private ResourceSaveData resourceSaveData = new ResourceSaveData();
+	private EqualityCacheData equalityCacheData = new EqualityCacheData();
 	
 	public long getEvaluationTime() {
 		return evaluationTime;
@@ -68,4 +70,12 @@ public class EvaluationDataContainer {
 	public ExecutionTimeData getExecutionTimes() {
 		return executionTimes;
 	}
+	
+	public ResourceSaveData getResourceSaveData() {
+		return resourceSaveData;
+	}
+	
+	public EqualityCacheData getEqualityCacheData() {
+		return equalityCacheData;
+	}
 }
@@ -6,10 +6,19 @@ package cipm.consistency.tools.evaluation.data;
  * @author Martin Armbruster
  */
 public class ExecutionTimeData {
+	private long startupTime = -1;
 	private long changePropagationTime = -1;
 	private long instrumentationTime = -1;
 	private long overallTime = -1;
 	
+	public long getStartupTime() {
+		return startupTime;
+	}
+	
+	public void setStartupTime(long startupTime) {
+		this.startupTime = startupTime;
+	}
+	
 	public long getChangePropagationTime() {
 		return changePropagationTime;
 	}
@@ -0,0 +1,25 @@
+package cipm.consistency.tools.evaluation.data;
+
+/**
+ * A data structure for statistics about the saved resources.
+ */
+public class ResourceSaveData {
+	private int numberSavedResources = 0;
+	private long numberWrittenBytes = 0;
+	
+	public int getNumberSavedResources() {
+		return numberSavedResources;
+	}
+	
+	public void setNumberSavedResources(int numberSavedResources) {
+		this.numberSavedResources = numberSavedResources;
+	}
+	
+	public long getNumberWrittenBytes() {
+		return numberWrittenBytes;
+	}
+	
+	public void setNumberWrittenBytes(long numberWrittenBytes) {
+		this.numberWrittenBytes = numberWrittenBytes;
+	}
+}
@@ -11,10 +11,12 @@
  *******************************************************************************/
 package org.splevo.commons.emf;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.log4j.Logger;
@@ -110,17 +112,47 @@ public class ReplacementUtil {
      *            replaced.
      */
     public static void replaceCrossReferences(CrossReferenceReplacer processor, ResourceSet... additionalResourceSets) {
-        Set<Setting> crossReferences = new HashSet<Setting>();
-        ArrayList<ResourceSet> resourceSets = new ArrayList<ResourceSet>();
-        addResourceSetIfNotNull(processor.getOriginal(), resourceSets);
-        addResourceSetIfNotNull(processor.getReplacement(), resourceSets);
+        replaceCrossReferences(Collections.singletonList(processor), additionalResourceSets);
+    }
+
+    /**
+     * Replaces all cross references of a batch of replacements in the given resource sets.
+     * 
+     * The cross references to all originals are collected in a single traversal of the resource
+     * sets before any replacement is applied. Thus, references created by one replacement are not
+     * replaced by another replacement of the same batch.
+     * 
+     * @param processors
+     *            The replacement processors to be used.
+     * @param additionalResourceSets
+     *            The resource sets that shall be considered besides the ones of the EObjects to be
+     *            replaced.
+     */
+    public static void replaceCrossReferences(Collection<CrossReferenceReplacer> processors,
+            ResourceSet... additionalResourceSets) {
+        Set<EObject> originals = new LinkedHashSet<EObject>();
+        Set<ResourceSet> resourceSets = new LinkedHashSet<ResourceSet>();
+        for (CrossReferenceReplacer processor : processors) {
+            originals.add(processor.getOriginal());
+            addResourceSetIfNotNull(processor.getOriginal(), resourceSets);
+            addResourceSetIfNotNull(processor.getReplacement(), resourceSets);
+        }
         resourceSets.addAll(Lists.newArrayList(additionalResourceSets));
-        for (ResourceSet rs : resourceSets) {  
-            crossReferences.addAll(EcoreUtil.UsageCrossReferencer.find(processor.getOriginal(), rs));
+        if (originals.isEmpty() || resourceSets.isEmpty()) {
+            return;
         }
-        
-        for (Setting crossReference : crossReferences) {
-            processor.apply(crossReference);
+
+        Map<EObject, Collection<Setting>> crossReferencesByOriginal = EcoreUtil.UsageCrossReferencer.findAll(
+                originals, resourceSets);
+
+        for (CrossReferenceReplacer processor : processors) {
+            Collection<Setting> crossReferences = crossReferencesByOriginal.get(processor.getOriginal());
+            if (crossReferences == null) {
+                continue;
+            }
+            for (Setting crossReference : new HashSet<Setting>(crossReferences)) {
+                processor.apply(crossReference);
+            }
         }
     }
     
@@ -11,8 +11,16 @@
  *******************************************************************************/
 package org.splevo.commons.emf;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
@@ -23,16 +31,55 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 /**
  * ResourceSet for the SPLevo tooling. The resource set automatically converts URIs when
  * creating/loading resources. The exact behavior depends on the default settings in
  * FileResourceHandling.
+ *
+ * The converted URIs are cached without their fragments. The cache is invalidated if the platform
+ * resource option or the workspace root changes, or if a workspace project is added, removed,
+ * opened, closed, moved or changes its description, since the location of its files may have
+ * changed. Loaded resources are registered in the URI
+ * resource map of the resource set, so they are looked up without iterating all resources.
  */
 public class SPLevoResourceSet extends ResourceSetImpl {
 
-    
-    
+    /** The maximum number of cached converted URIs. */
+    private static final int MAX_URI_CACHE_SIZE = 10000;
+
+    /** The flags of a changed project which may change the location of its files. */
+    private static final int PROJECT_LOCATION_FLAGS = IResourceDelta.OPEN | IResourceDelta.DESCRIPTION
+            | IResourceDelta.MOVED_FROM | IResourceDelta.MOVED_TO;
+
+    /** The number of project changes in the workspace which may have changed file locations. */
+    private static final AtomicLong PROJECT_CHANGES = new AtomicLong();
+
+    /** Whether the listener counting the project changes is registered in the workspace. */
+    private static final AtomicBoolean PROJECT_LISTENER_REGISTERED = new AtomicBoolean();
+
+    /** The cache of converted URIs without fragments. */
+    private final Cache<URI, URI> convertedURIs = CacheBuilder.newBuilder().maximumSize(MAX_URI_CACHE_SIZE)
+            .build();
+
+    /** The platform resource option the cached URIs were converted with. */
+    private boolean cachedUsePlatformResource;
+
+    /** The workspace root the cached URIs were converted with. */
+    private IWorkspaceRoot cachedWorkspaceRoot;
+
+    /** The number of project changes when the cached URIs were converted. */
+    private long cachedProjectChanges = -1;
+
+    /**
+     * Constructor to set up the URI resource map.
+     */
+    public SPLevoResourceSet() {
+        setURIResourceMap(new HashMap<URI, Resource>());
+    }
+
     @Override
     public EObject getEObject(URI uri, boolean loadOnDemand) {
         return super.getEObject(convertURI(uri), loadOnDemand);
@@ -40,7 +87,9 @@ public class SPLevoResourceSet extends ResourceSetImpl {
 
     @Override
     public Resource getResource(URI uri, boolean loadOnDemand) {
-        return super.getResource(convertURI(uri), loadOnDemand);
+        URI convertedURI = convertURI(uri);
+        removeStaleResourceMapping(convertedURI);
+        return super.getResource(convertedURI, loadOnDemand);
     }
 
     @Override
@@ -48,25 +97,41 @@ public class SPLevoResourceSet extends ResourceSetImpl {
         return super.createResource(convertURI(uri), contentType);
     }
 
+    /**
+     * Remove the mapping of an URI if the mapped resource is no longer part of this resource set,
+     * e.g., because it was moved to another resource set, or if the URI of the resource changed.
+     *
+     * @param uri
+     *            The URI to check the mapping for.
+     */
+    private void removeStaleResourceMapping(URI uri) {
+        Map<URI, Resource> uriResourceMap = getURIResourceMap();
+        if (uriResourceMap == null) {
+            return;
+        }
+        Resource resource = uriResourceMap.get(uri);
+        if (resource != null && (resource.getResourceSet() != this || !uri.equals(resource.getURI()))) {
+            uriResourceMap.remove(uri);
+        }
+    }
+
     private URI convertURI(URI uri) {
 
-        if (FileResourceHandling.usePlatformResource(this)) {
+        boolean usePlatformResource = FileResourceHandling.usePlatformResource(this);
+
+        if (usePlatformResource) {
 
             if (uri.isPlatform() || "pathmap".equals(uri.scheme())) {
                 return uri;
             } else {
-                IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-                IPath p = new Path(uri.toFileString());
-                IFile f = root.getFileForLocation(p);
-                return createURI(URI.createPlatformResourceURI(f.getFullPath().toString(), true), uri.fragment());
+                URI convertedURI = getConvertedURI(uri.trimFragment(), usePlatformResource);
+                return createURI(convertedURI, uri.fragment());
             }
 
         } else {
 
             if (uri.isPlatform()) {
-                IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-                IResource f = root.findMember(uri.toPlatformString(true));
-                return URI.createFileURI(f.getLocationURI().toString());
+                return getConvertedURI(uri.trimFragment(), usePlatformResource);
             } else {
                 return uri;
             }
@@ -74,7 +139,83 @@ public class SPLevoResourceSet extends ResourceSetImpl {
         }
 
     }
-        
+
+    /**
+     * Get the converted URI from the cache or convert it if it is not cached yet. The validity check
+     * of the cache, the lookup, the conversion and the insertion are done under the same lock, so a
+     * conversion computed before the cache is invalidated is never put back into the cache.
+     *
+     * @param uri
+     *            The URI without fragment to convert.
+     * @param usePlatformResource
+     *            The platform resource option to convert the URI with.
+     * @return The converted URI without fragment.
+     */
+    private URI getConvertedURI(URI uri, boolean usePlatformResource) {
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        registerProjectListener(workspace);
+        IWorkspaceRoot root = workspace.getRoot();
+        synchronized (convertedURIs) {
+            long projectChanges = PROJECT_CHANGES.get();
+            if (usePlatformResource != cachedUsePlatformResource || root != cachedWorkspaceRoot
+                    || projectChanges != cachedProjectChanges) {
+                convertedURIs.invalidateAll();
+                cachedUsePlatformResource = usePlatformResource;
+                cachedWorkspaceRoot = root;
+                cachedProjectChanges = projectChanges;
+            }
+
+            URI convertedURI = convertedURIs.getIfPresent(uri);
+            if (convertedURI == null) {
+                if (usePlatformResource) {
+                    IPath p = new Path(uri.toFileString());
+                    IFile f = root.getFileForLocation(p);
+                    convertedURI = URI.createPlatformResourceURI(f.getFullPath().toString(), true);
+                } else {
+                    IResource f = root.findMember(uri.toPlatformString(true));
+                    convertedURI = URI.createFileURI(f.getLocationURI().toString());
+                }
+                convertedURIs.put(uri, convertedURI);
+            }
+            return convertedURI;
+        }
+    }
+
+    /**
+     * Register the listener counting the project changes in the workspace. A single listener is
+     * shared by all resource sets, so resource sets do not need to be disposed.
+     *
+     * @param workspace
+     *            The workspace to listen to.
+     */
+    private static void registerProjectListener(IWorkspace workspace) {
+        if (PROJECT_LISTENER_REGISTERED.compareAndSet(false, true)) {
+            workspace.addResourceChangeListener(SPLevoResourceSet::countProjectChanges,
+                    IResourceChangeEvent.POST_CHANGE);
+        }
+    }
+
+    /**
+     * Count a resource change if it adds, removes, opens, closes or moves a project or changes the
+     * description of a project.
+     *
+     * @param event
+     *            The resource change event.
+     */
+    private static void countProjectChanges(IResourceChangeEvent event) {
+        IResourceDelta delta = event.getDelta();
+        if (delta == null) {
+            return;
+        }
+        for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+            if (projectDelta.getKind() != IResourceDelta.CHANGED
+                    || (projectDelta.getFlags() & PROJECT_LOCATION_FLAGS) != 0) {
+                PROJECT_CHANGES.incrementAndGet();
+                return;
+            }
+        }
+    }
+
     private static URI createURI(URI uri, String fragment) {
         if (Strings.isNullOrEmpty(fragment)) {
             return uri;
@@ -35,12 +35,7 @@ public abstract class IdBasedRegistryBase<T extends IdHavingElement<S>, S> exten
      * @return The element with the given ID.
      */
     public T getElementById(S id) {
-        for (T element : elements) {
-            if (element.getId().equals(id)) {
-                return element;
-            }
-        }
-        return null;
+        return getElementByKey(id);
     }
 
     @Override
@@ -57,18 +52,16 @@ public abstract class IdBasedRegistryBase<T extends IdHavingElement<S>, S> exten
     }
 
     /**
-     * Detects equal elements for finding already registered elements. The default implementation
-     * uses the IDs to compare the elements.
+     * Determines the key to detect already registered elements. The default implementation uses
+     * the IDs of the elements.
      * 
-     * @param element1
-     *            The first element.
-     * @param element2
-     *            The second element.
-     * @return True if the elements are considered equal, False otherwise.
+     * @param element
+     *            The element.
+     * @return The ID of the element.
      */
     @Override
-    protected boolean areElementsConsideredTheSame(T element1, T element2) {
-        return element1.getId().equals(element2.getId());
+    protected Object getElementKey(T element) {
+        return element.getId();
     }
 
 }
@@ -14,18 +14,27 @@ package org.splevo.commons.registry;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 /**
  * Base class for registries of arbitrary elements.
  * 
+ * The elements are stored by their keys in registration order. The sorted list of elements is
+ * cached and only rebuilt after a new element has been registered.
+ * 
  * @param <T>
  *            The type of the contained elements.
  */
 public abstract class RegistryBase<T> {
 
-    protected final List<T> elements = Lists.newArrayList();
+    private final Map<Object, T> elements = Maps.newLinkedHashMap();
+
+    /** The sorted elements or null if they have to be sorted again. */
+    private List<T> sortedElements = null;
 
     /**
      * Register a new element.
@@ -36,19 +45,36 @@ public abstract class RegistryBase<T> {
      *            The element itself.
      */
     public void registerElement(T element) {
-        if (isValid(element) && isNotRegistered(element)) {
-            elements.add(element);
+        if (isValid(element)) {
+            Object key = getElementKey(element);
+            if (!elements.containsKey(key)) {
+                elements.put(key, element);
+                sortedElements = null;
+            }
         }
     }
 
     /**
      * Get the list of registered elements.
      * 
-     * @return The current list.
+     * @return The current list. The list cannot be modified.
      */
     public List<T> getElements() {
-        sortElements();
-        return elements;
+        if (sortedElements == null) {
+            sortedElements = sortElements();
+        }
+        return sortedElements;
+    }
+
+    /**
+     * Get the registered element with the given key.
+     * 
+     * @param key
+     *            The key of the element as returned by {@link #getElementKey(Object)}.
+     * @return The element or null if no such element is registered.
+     */
+    protected T getElementByKey(Object key) {
+        return elements.get(key);
     }
 
     /**
@@ -66,22 +92,15 @@ public abstract class RegistryBase<T> {
         return true;
     }
 
-    private boolean isNotRegistered(T givenElement) {
-        for (T existingElement : elements) {
-            if (areElementsConsideredTheSame(existingElement, givenElement)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private void sortElements() {
-        Collections.sort(elements, new Comparator<T>() {
+    private List<T> sortElements() {
+        List<T> sorted = Lists.newArrayList(elements.values());
+        Collections.sort(sorted, new Comparator<T>() {
             @Override
             public int compare(T d1, T d2) {
                 return compareElements(d1, d2);
             }
         });
+        return ImmutableList.copyOf(sorted);
     }
 
     /**
@@ -99,17 +118,16 @@ public abstract class RegistryBase<T> {
     }
 
     /**
-     * Detects equal elements for finding already registered elements. The default implementation
-     * uses equals() to compare the elements.
+     * Determines the key to detect already registered elements. Elements with equal keys are
+     * considered the same. The default implementation uses the element itself, so equals() and
+     * hashCode() are used to compare the elements.
      * 
-     * @param element1
-     *            The first element.
-     * @param element2
-     *            The second element.
-     * @return True if the elements are considered equal, False otherwise.
+     * @param element
+     *            The element.
+     * @return The key of the element.
      */
-    protected boolean areElementsConsideredTheSame(T element1, T element2) {
-        return element1.equals(element2);
+    protected Object getElementKey(T element) {
+        return element;
     }
 
 }
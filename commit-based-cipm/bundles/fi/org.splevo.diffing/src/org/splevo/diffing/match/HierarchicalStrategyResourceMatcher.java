@@ -22,22 +22,21 @@ import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
-import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.compare.MatchResource;
 import org.eclipse.emf.compare.match.resource.StrategyResourceMatcher;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.splevo.diffing.util.NormalizationUtil;
+import org.splevo.diffing.util.Normalizer;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
-import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 
 /**
@@ -47,13 +46,13 @@ import com.google.common.collect.Sets;
 public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher {
 
     /** Index to assign the left resources to their file name. */
-    private ListMultimap<String, Resource> filenameResourcesIndexLeft = ArrayListMultimap.create();
+    private FilenameIndex filenameResourcesIndexLeft = new FilenameIndex();
 
     /** Index to assign the right resources to their file name. */
-    private ListMultimap<String, Resource> filenameResourcesIndexRight = ArrayListMultimap.create();
+    private FilenameIndex filenameResourcesIndexRight = new FilenameIndex();
 
-    /** Patterns to replace with the defined target string in the URIs string representations. */
-    private LinkedHashMap<Pattern, String> uriNormalizationPatterns = Maps.newLinkedHashMap();
+    /** Normalizer to replace patterns with the defined target string in the URIs string representations. */
+    private Normalizer uriNormalizer = new Normalizer(Maps.<Pattern, String> newLinkedHashMap());
 
     /** Patterns to replace with the defined target string in the URIs string representations. */
     private LinkedHashMap<Pattern, String> filenameNormalizationPatterns = Maps.newLinkedHashMap();
@@ -77,7 +76,7 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
      */
     public HierarchicalStrategyResourceMatcher(LinkedHashMap<Pattern, String> uriNormalizationPatterns,
             LinkedHashMap<Pattern, String> fileNameNormalizationPatterns) {
-        this.uriNormalizationPatterns = uriNormalizationPatterns;
+        this.uriNormalizer = new Normalizer(uriNormalizationPatterns);
         this.filenameNormalizationPatterns = fileNameNormalizationPatterns;
     }
 
@@ -107,8 +106,8 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
                 Resource left = leftCandidates.get(0);
                 Resource right = rightCandidates.get(0);
                 mappings.add(createMatchResource(left, right, null));
-                removeFromIndex(filenameResourcesIndexLeft, left);
-                removeFromIndex(filenameResourcesIndexRight, right);
+                filenameResourcesIndexLeft.remove(left);
+                filenameResourcesIndexRight.remove(right);
 
             } else if (leftCandidates.size() != 0 && rightCandidates.size() != 0) {
                 matchBestMatches(leftCandidates, rightCandidates, mappings);
@@ -132,7 +131,10 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
      * best match for both sides.
      *
      * Internally, indexes are build to identify the total number of matches and the best matches
-     * for both candidate lists.
+     * for both candidate lists. The number of matching segments of two resources is the length of
+     * the common suffix of their paths. Therefore, the candidates of each side are indexed in a
+     * tree of their reversed path segments. The best matches of a resource are all candidates of
+     * the deepest tree node reachable with the resource's path.
      *
      * @param leftCandidates
      *            The left candidates to search matches for.
@@ -153,30 +155,24 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
         // To the still existing same class as well as the modified, derived copy
         // see SPLEVO-181 for details {@link https://sdqbuild.ipd.kit.edu/jira/browse/SPLEVO-181}
         LinkedListMultimap<Resource, Resource> bestMatchIndexLeft = LinkedListMultimap.create();
-        LinkedListMultimap<Resource, Resource> bestMatchIndexRight = LinkedListMultimap.create();
 
+        Map<Resource, String[]> leftPaths = Maps.newLinkedHashMap();
+        PathSuffixNode leftTree = new PathSuffixNode();
         for (Resource leftRes : leftCandidates) {
-            for (Resource rightRes : rightCandidates) {
-                int matchCount = getMatchingSegmentsPathOnly(leftRes, rightRes);
-
-                if (!bestMatchCountIndex.containsKey(leftRes) || bestMatchCountIndex.get(leftRes) < matchCount) {
-                    bestMatchCountIndex.put(leftRes, matchCount);
-                    bestMatchIndexLeft.removeAll(leftRes);
-                    bestMatchIndexLeft.put(leftRes, rightRes);
-                } else if (bestMatchCountIndex.get(leftRes) == matchCount) {
-                    bestMatchCountIndex.put(leftRes, matchCount);
-                    bestMatchIndexLeft.put(leftRes, rightRes);
-                }
-
-                if (!bestMatchCountIndex.containsKey(rightRes) || bestMatchCountIndex.get(rightRes) < matchCount) {
-                    bestMatchCountIndex.put(rightRes, matchCount);
-                    bestMatchIndexRight.removeAll(rightRes);
-                    bestMatchIndexRight.put(rightRes, leftRes);
-                } else if (bestMatchCountIndex.get(rightRes) == matchCount) {
-                    bestMatchCountIndex.put(rightRes, matchCount);
-                    bestMatchIndexRight.put(rightRes, leftRes);
-                }
-            }
+            String[] path = removeLast(processRenamingNormalizations(leftRes.getURI().segments()));
+            leftPaths.put(leftRes, path);
+            leftTree.add(path, leftRes);
+        }
+        PathSuffixNode rightTree = new PathSuffixNode();
+        for (Resource rightRes : rightCandidates) {
+            String[] path = removeLast(rightRes.getURI().segments());
+            rightTree.add(path, rightRes);
+            bestMatchCountIndex.put(rightRes, leftTree.getMatchingSegments(path));
+        }
+        for (Resource leftRes : leftCandidates) {
+            String[] path = leftPaths.get(leftRes);
+            bestMatchCountIndex.put(leftRes, rightTree.getMatchingSegments(path));
+            bestMatchIndexLeft.putAll(leftRes, rightTree.getDeepestNode(path).resources);
         }
 
         List<MatchResource> bestMatches = createMatchElementsForBestMatches(bestMatchCountIndex, bestMatchIndexLeft);
@@ -219,8 +215,8 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
             for (Resource rightRes : rightRessources) {
                 if (bestMatchCountIndex.get(leftRes) == bestMatchCountIndex.get(rightRes)) {
                     mappings.add(createMatchResource(leftRes, rightRes, null));
-                    removeFromIndex(filenameResourcesIndexLeft, leftRes);
-                    removeFromIndex(filenameResourcesIndexRight, rightRes);
+                    filenameResourcesIndexLeft.remove(leftRes);
+                    filenameResourcesIndexRight.remove(rightRes);
                 }
             }
         }
@@ -272,72 +268,6 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
 
     }
 
-    /**
-     * Remove a resource entry from the index for all segments it has been registered for.
-     *
-     * @param index
-     *            The index to clean.
-     * @param resource
-     *            The resource to remove
-     */
-    private void removeFromIndex(ListMultimap<String, Resource> index, Resource resource) {
-        List<String> keys = Lists.newArrayList(index.keySet());
-        for (String key : keys) {
-            index.remove(key, resource);
-        }
-    }
-
-    /**
-     * Count the number of matching segments for two resources.
-     *
-     * <p>
-     * The segment comparison starts from the end of the resources' URIs except of the filename.<br>
-     * The filename is expected to match for the resources provided to this method (including
-     * renaming awareness etc.). The comparison is done beginning from the end, because the sources
-     * of the same software product might be stored at different locations on the disk. So the
-     * beginning of the URIs / the locations where the implementations are stored, are expected to
-     * be different anyway.
-     * </p>
-     *
-     * @param leftResource
-     *            The left resource to compare the uri.
-     * @param rightResource
-     *            The right resource to compare the uri.
-     * @return The number of matching segments of the resources.
-     */
-    private int getMatchingSegmentsPathOnly(Resource leftResource, Resource rightResource) {
-
-        URI leftURI = leftResource.getURI();
-        URI rightUri = rightResource.getURI();
-        int count = 0;
-
-        String[] segmentsLeft = processRenamingNormalizations(leftURI.segments());
-        String[] segmentsRight = rightUri.segments();
-
-        segmentsLeft = removeLast(segmentsLeft);
-        segmentsRight = removeLast(segmentsRight);
-
-        int leftLength = segmentsLeft.length;
-        int rightLength = segmentsRight.length;
-
-        for (int i = 0; i < leftLength; i++) {
-
-            if (i >= rightLength) {
-                break;
-            }
-
-            String refString = segmentsLeft[leftLength - 1 - i];
-            String compString = segmentsRight[rightLength - 1 - i];
-            if (refString.equals(compString)) {
-                count++;
-            } else {
-                break;
-            }
-        }
-
-        return count;
-    }
-
     /**
      * Remove the last element of an array.
      *
@@ -380,14 +310,14 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
     private String[] processRenamingNormalizations(String[] segmentsLeft) {
         String leftFilename = segmentsLeft[segmentsLeft.length - 1];
 
-        StringBuffer sb = new StringBuffer();
+        StringBuilder sb = new StringBuilder();
         for (int i = 0; i < segmentsLeft.length - 1; i++) {
             if (i > 0) {
                 sb.append('.');
             }
             sb.append(segmentsLeft[i]);
         }
-        String leftSegmentsAsString = NormalizationUtil.normalizeNamespace(sb.toString(), uriNormalizationPatterns);
+        String leftSegmentsAsString = uriNormalizer.normalize(sb.toString());
         List<String> split = Lists.newArrayList(Splitter.on('.').split(leftSegmentsAsString));
         split.add(leftFilename);
         segmentsLeft = Iterables.toArray(split, String.class);
@@ -405,7 +335,7 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
      *            The list of patterns to apply during resource indexing. Null or an empty list if
      *            none should be applied.
      */
-    private void indexResources(Iterator<? extends Resource> resources, ListMultimap<String, Resource> index,
+    private void indexResources(Iterator<? extends Resource> resources, FilenameIndex index,
             Map<Pattern, String> fileNameNormalizationPatterns) {
 
         while (resources.hasNext()) {
@@ -429,4 +359,148 @@ public class HierarchicalStrategyResourceMatcher extends StrategyResourceMatcher
 
     }
 
+    /**
+     * Index of resources by their (normalized) file names. In addition to the resources per file
+     * name, the file names per resource are kept so that a resource can be removed without
+     * visiting all file names.
+     */
+    private static class FilenameIndex {
+
+        /** The resources registered for a file name. */
+        private final SetMultimap<String, Resource> resourcesByKey = LinkedHashMultimap.create();
+
+        /** The file names a resource is registered for. */
+        private final SetMultimap<Resource, String> keysByResource = HashMultimap.create();
+
+        /**
+         * Register a resource for a file name.
+         *
+         * @param key
+         *            The file name.
+         * @param resource
+         *            The resource to register.
+         */
+        public void put(String key, Resource resource) {
+            resourcesByKey.put(key, resource);
+            keysByResource.put(resource, key);
+        }
+
+        /**
+         * Get the resources registered for a file name.
+         *
+         * @param key
+         *            The file name.
+         * @return The registered resources.
+         */
+        public Set<Resource> get(String key) {
+            return resourcesByKey.get(key);
+        }
+
+        /**
+         * Get all file names with registered resources.
+         *
+         * @return The file names.
+         */
+        public Set<String> keySet() {
+            return resourcesByKey.keySet();
+        }
+
+        /**
+         * Get all registered resources. A resource registered for multiple file names is contained
+         * multiple times.
+         *
+         * @return The registered resources.
+         */
+        public Collection<Resource> values() {
+            return resourcesByKey.values();
+        }
+
+        /**
+         * Remove a resource entry from the index for all file names it has been registered for.
+         *
+         * @param resource
+         *            The resource to remove.
+         */
+        public void remove(Resource resource) {
+            for (String key : keysByResource.removeAll(resource)) {
+                resourcesByKey.remove(key, resource);
+            }
+        }
+    }
+
+    /**
+     * Node of a tree of reversed URI path segments. Each node contains all resources whose paths
+     * end with the segments on the way from the root to the node.
+     */
+    private static class PathSuffixNode {
+
+        /** The child nodes for the preceding path segment. */
+        private final Map<String, PathSuffixNode> children = new HashMap<String, PathSuffixNode>();
+
+        /** The resources in the order they were added. */
+        private final List<Resource> resources = new ArrayList<Resource>();
+
+        /**
+         * Add a resource for all suffixes of its path.
+         *
+         * @param path
+         *            The path segments of the resource.
+         * @param resource
+         *            The resource to add.
+         */
+        public void add(String[] path, Resource resource) {
+            PathSuffixNode node = this;
+            node.resources.add(resource);
+            for (int i = path.length - 1; i >= 0; i--) {
+                PathSuffixNode child = node.children.get(path[i]);
+                if (child == null) {
+                    child = new PathSuffixNode();
+                    node.children.put(path[i], child);
+                }
+                node = child;
+                node.resources.add(resource);
+            }
+        }
+
+        /**
+         * Get the deepest node reachable with the suffixes of a path.
+         *
+         * @param path
+         *            The path segments.
+         * @return The deepest node. Its resources share the longest path suffix with the path.
+         */
+        public PathSuffixNode getDeepestNode(String[] path) {
+            PathSuffixNode node = this;
+            for (int i = path.length - 1; i >= 0; i--) {
+                PathSuffixNode child = node.children.get(path[i]);
+                if (child == null) {
+                    break;
+                }
+                node = child;
+            }
+            return node;
+        }
+
+        /**
+         * Get the maximum number of matching segments from the end of a path with any path in the
+         * tree.
+         *
+         * @param path
+         *            The path segments.
+         * @return The number of matching segments.
+         */
+        public int getMatchingSegments(String[] path) {
+            PathSuffixNode node = this;
+            int count = 0;
+            for (int i = path.length - 1; i >= 0; i--) {
+                node = node.children.get(path[i]);
+                if (node == null) {
+                    break;
+                }
+                count++;
+            }
+            return count;
+        }
+    }
+
 }
@@ -40,6 +40,9 @@ public final class NormalizationUtil {
      * Apply a set of normalizations patterns to a string. The patterns to apply are provided as a
      * map, linked to a string the pattern should be replaced with in case of a match.
      *
+     * To normalize many strings with the same patterns, a {@link Normalizer} caching the results
+     * should be preferred.
+     *
      * @param original
      *            The string to normalize.
      * @param normalizations
@@ -48,9 +51,8 @@ public final class NormalizationUtil {
      */
     public static String normalize(String original, Map<Pattern, String> normalizations) {
         String renamed = Strings.nullToEmpty(original);
-        for (Pattern pattern : normalizations.keySet()) {
-            String replaceString = normalizations.get(pattern);
-            renamed = pattern.matcher(renamed).replaceAll(replaceString);
+        for (Map.Entry<Pattern, String> normalization : normalizations.entrySet()) {
+            renamed = normalization.getKey().matcher(renamed).replaceAll(normalization.getValue());
         }
         return renamed;
     }
@@ -67,9 +69,8 @@ public final class NormalizationUtil {
     public static String normalizeNamespace(String namespace, LinkedHashMap<Pattern, String> normalizations) {
         namespace = Strings.nullToEmpty(namespace);
 
-        for (Pattern pattern : normalizations.keySet()) {
-            String replacement = normalizations.get(pattern);
-            namespace = pattern.matcher(namespace).replaceAll(replacement);
+        for (Map.Entry<Pattern, String> normalization : normalizations.entrySet()) {
+            namespace = normalization.getKey().matcher(namespace).replaceAll(normalization.getValue());
         }
         return namespace;
     }
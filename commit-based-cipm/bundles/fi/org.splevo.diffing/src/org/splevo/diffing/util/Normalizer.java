@@ -0,0 +1,83 @@
+package org.splevo.diffing.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.google.common.base.Strings;
+
+/**
+ * Applies a fixed set of normalization patterns to strings. The normalization configuration is
+ * read once when the normalizer is created, and the normalized strings are cached in a bounded
+ * map so that repeatedly compared names are normalized only once.
+ *
+ * The results are the same as those of {@link NormalizationUtil#normalize(String, Map)} for the
+ * configuration the normalizer was created with.
+ */
+public final class Normalizer {
+
+    /** The maximum number of cached normalized strings. */
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    /** The patterns to apply in their configured order. */
+    private final List<Pattern> patterns = new ArrayList<Pattern>();
+
+    /** The replacements for the patterns at the same index. */
+    private final List<String> replacements = new ArrayList<String>();
+
+    /** The cache of normalized strings with the least recently used entry first. */
+    private final Map<String, String> cache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Constructor to set the normalization configuration.
+     *
+     * @param normalizations
+     *            The map of normalization patterns and according replacements. The map is copied,
+     *            so later modifications of it are not considered.
+     */
+    public Normalizer(Map<Pattern, String> normalizations) {
+        for (Map.Entry<Pattern, String> entry : normalizations.entrySet()) {
+            patterns.add(entry.getKey());
+            replacements.add(entry.getValue());
+        }
+    }
+
+    /**
+     * Apply the normalization patterns to a string.
+     *
+     * @param original
+     *            The string to normalize.
+     * @return The normalized string. If null was submitted, an empty string will be returned.
+     */
+    public String normalize(String original) {
+        String renamed = Strings.nullToEmpty(original);
+        if (patterns.isEmpty()) {
+            return renamed;
+        }
+        synchronized (cache) {
+            String normalized = cache.get(renamed);
+            if (normalized == null) {
+                normalized = applyPatterns(renamed);
+                cache.put(renamed, normalized);
+            }
+            return normalized;
+        }
+    }
+
+    private String applyPatterns(String original) {
+        String renamed = original;
+        for (int i = 0; i < patterns.size(); i++) {
+            renamed = patterns.get(i).matcher(renamed).replaceAll(replacements.get(i));
+        }
+        return renamed;
+    }
+}
@@ -18,6 +18,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import org.apache.log4j.Logger;
@@ -66,8 +67,11 @@ import org.splevo.jamopp.diffing.scope.PackageIgnoreChecker;
 import org.splevo.jamopp.diffing.similarity.SimilarityChecker;
 import org.splevo.jamopp.extraction.JaMoPPSoftwareModelExtractor;
 
+import com.google.common.base.Strings;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
@@ -144,9 +148,44 @@ public class JaMoPPDiffer implements Differ {
      */
     public static final String OPTION_JAVA_CLASSIFIER_NORMALIZATION = "JaMoPP.Java.Classifier.Normalization.Pattern";
 
+    /**
+     * Option key for the maximum size of the cache of the equality helper.<br>
+     * The cache stores the URIs of the compared elements. Without this option, the default size of
+     * EMF Compare is used. A negative value disables the eviction, so all URIs are kept for the
+     * whole diff. If the option {@link #OPTION_EQUALITY_CACHE_WEIGHER} is set, the value is the
+     * maximum total weight of the cache entries.
+     */
+    public static final String OPTION_EQUALITY_CACHE_MAX_SIZE = "JaMoPP.Equality.Cache.Maximum.Size";
+
+    /**
+     * Option key for the weigher of the cache of the equality helper.<br>
+     * Supported values are <tt>uri</tt> to weigh an entry by the length of its URI and an empty
+     * value to count the entries.
+     */
+    public static final String OPTION_EQUALITY_CACHE_WEIGHER = "JaMoPP.Equality.Cache.Weigher";
+
+    /**
+     * Option key to record statistics of the cache of the equality helper.<br>
+     * Any not empty value activates the recording. The hit, miss and eviction counts are logged and
+     * passed to the listener set by {@link #setEqualityCacheStatisticsListener(Consumer)} at the end
+     * of each diff.
+     */
+    public static final String OPTION_EQUALITY_CACHE_RECORD_STATS = "JaMoPP.Equality.Cache.Record.Statistics";
+
+    /**
+     * Option key for the number of threads to load the java files of a source model with.<br>
+     * With more than one thread, the java files are parsed in parallel. Without this option, the
+     * thread count of the software model extractor is kept, which loads sequentially by default.
+     */
+    public static final String OPTION_LOADING_THREAD_COUNT = "JaMoPP.Loading.Thread.Count";
+
+    /** The value of {@link #OPTION_EQUALITY_CACHE_WEIGHER} to weigh entries by their URI length. */
+    private static final String URI_LENGTH_WEIGHER = "uri";
+
     private static final String LABEL = "JaMoPP Java Differ";
     private static final String ID = "org.splevo.jamopp.differ";
     private static Logger logger = Logger.getLogger(JaMoPPDiffer.class);
+    private static volatile Consumer<CacheStats> equalityCacheStatisticsListener;
     private final JaMoPPSoftwareModelExtractor extractor;
 
     /**
@@ -182,12 +221,30 @@ public class JaMoPPDiffer implements Differ {
         final List<String> ignoreFiles = loadIgnoreFileConfiguration(diffingOptions);
 
         logger.info("Load source models");
+        configureLoadingThreadCount(diffingOptions);
         ResourceSet resourceSetLeading = loadResourceSetRecursively(leadingModelDirectory, ignoreFiles);
         ResourceSet resourceSetIntegration = loadResourceSetRecursively(integrationModelDirectory, ignoreFiles);
 
         return doDiff(resourceSetLeading, resourceSetIntegration, diffingOptions);
     }
 
+    /**
+     * Set the number of threads of the extractor if it is configured in the provided options.
+     *
+     * @param diffingOptions
+     *            The options map.
+     */
+    private void configureLoadingThreadCount(Map<String, String> diffingOptions) {
+        String threadCountOption = Strings.nullToEmpty(diffingOptions.get(OPTION_LOADING_THREAD_COUNT)).trim();
+        if (!threadCountOption.isEmpty()) {
+            try {
+                extractor.setLoadingThreadCount(Integer.parseInt(threadCountOption));
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid loading thread count: " + threadCountOption);
+            }
+        }
+    }
+
     /**
      * Get the ignore file configuration for the provided options.
      *
@@ -226,7 +283,8 @@ public class JaMoPPDiffer implements Differ {
         List<String> ignorePackages = buildIgnorePackageList(diffingOptions);
         PackageIgnoreChecker packageIgnoreChecker = new PackageIgnoreChecker(ignorePackages);
 
-        EMFCompare comparator = initCompare(packageIgnoreChecker, diffingOptions);
+        LoadingCache<EObject, URI> equalityCache = createEqualityCache(diffingOptions);
+        EMFCompare comparator = initCompare(packageIgnoreChecker, diffingOptions, equalityCache);
 
         // Compare the two models
         // In comparison, the left side is always the changed one.
@@ -235,6 +293,7 @@ public class JaMoPPDiffer implements Differ {
                 packageIgnoreChecker);
 
         Comparison comparisonModel = comparator.compare(scope);
+        publishEqualityCacheStatistics(equalityCache, diffingOptions);
 
         return comparisonModel;
 
@@ -255,7 +314,8 @@ public class JaMoPPDiffer implements Differ {
         List<String> ignorePackages = Lists.newArrayList();
         PackageIgnoreChecker packageIgnoreChecker = new PackageIgnoreChecker(ignorePackages);
 
-        EMFCompare comparator = initCompare(packageIgnoreChecker, diffingOptions);
+        LoadingCache<EObject, URI> equalityCache = createEqualityCache(diffingOptions);
+        EMFCompare comparator = initCompare(packageIgnoreChecker, diffingOptions, equalityCache);
 
         // Compare the two models
         // In comparison, the left side is always the changed one.
@@ -263,6 +323,7 @@ public class JaMoPPDiffer implements Differ {
         IComparisonScope scope = new JavaModelMatchScope(leftElement, rightElement, packageIgnoreChecker);
 
         Comparison comparisonModel = comparator.compare(scope);
+        publishEqualityCacheStatistics(equalityCache, diffingOptions);
 
         return comparisonModel;
 
@@ -294,11 +355,15 @@ public class JaMoPPDiffer implements Differ {
      *            The checker to decide if an element is within a package to ignore.
      * @param diffingOptions
      *            The options configuring the comparison.
+     * @param equalityCache
+     *            The cache to be used by the equality helper.
      * @return The prepared emf compare engine.
      */
-    private EMFCompare initCompare(PackageIgnoreChecker packageIgnoreChecker, Map<String, String> diffingOptions) {
+    private EMFCompare initCompare(PackageIgnoreChecker packageIgnoreChecker, Map<String, String> diffingOptions,
+            LoadingCache<EObject, URI> equalityCache) {
 
-        IMatchEngine.Factory.Registry matchEngineRegistry = initMatchEngine(packageIgnoreChecker, diffingOptions);
+        IMatchEngine.Factory.Registry matchEngineRegistry = initMatchEngine(packageIgnoreChecker, diffingOptions,
+                equalityCache);
         IPostProcessor.Descriptor.Registry<?> postProcessorRegistry = initPostProcessors(packageIgnoreChecker,
                 diffingOptions);
         IDiffEngine diffEngine = initDiffEngine(packageIgnoreChecker);
@@ -307,17 +372,92 @@ public class JaMoPPDiffer implements Differ {
     }
 
     /**
-     * Initialize a cache to be used by the equality helper.
+     * Set the listener which receives the statistics of the equality cache after each diff with
+     * recorded statistics. This includes comparisons which create their cache with
+     * {@link #createEqualityCache(Map)} outside of this differ.
      *
+     * @param listener
+     *            The listener or null to remove the current one.
+     */
+    public static void setEqualityCacheStatisticsListener(Consumer<CacheStats> listener) {
+        equalityCacheStatisticsListener = listener;
+    }
+
+    /**
+     * Create a cache to be used by the equality helper.
+     *
+     * @param diffingOptions
+     *            The options configuring the size, weigher and statistics of the cache.
      * @return The ready to use cache.
      */
-    private LoadingCache<EObject, URI> initEqualityCache() {
-        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().maximumSize(
-                DefaultMatchEngine.DEFAULT_EOBJECT_URI_CACHE_MAX_SIZE);
+    public static LoadingCache<EObject, URI> createEqualityCache(Map<String, String> diffingOptions) {
+        long maximumSize = DefaultMatchEngine.DEFAULT_EOBJECT_URI_CACHE_MAX_SIZE;
+        String maximumSizeOption = Strings.nullToEmpty(diffingOptions.get(OPTION_EQUALITY_CACHE_MAX_SIZE)).trim();
+        if (!maximumSizeOption.isEmpty()) {
+            try {
+                maximumSize = Long.parseLong(maximumSizeOption);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid equality cache size: " + maximumSizeOption);
+            }
+        }
+        String weigher = Strings.nullToEmpty(diffingOptions.get(OPTION_EQUALITY_CACHE_WEIGHER)).trim();
+
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+        if (isOptionSet(diffingOptions, OPTION_EQUALITY_CACHE_RECORD_STATS)) {
+            cacheBuilder = cacheBuilder.recordStats();
+        }
+        if (maximumSize >= 0 && URI_LENGTH_WEIGHER.equals(weigher)) {
+            cacheBuilder = cacheBuilder.maximumWeight(maximumSize).weigher(new Weigher<Object, Object>() {
+                @Override
+                public int weigh(Object key, Object value) {
+                    return value.toString().length();
+                }
+            });
+        } else if (maximumSize >= 0) {
+            if (!weigher.isEmpty()) {
+                logger.warn("Unsupported equality cache weigher: " + weigher);
+            }
+            cacheBuilder = cacheBuilder.maximumSize(maximumSize);
+        }
         final LoadingCache<EObject, URI> cache = EqualityHelper.createDefaultCache(cacheBuilder);
         return cache;
     }
 
+    /**
+     * Publish the statistics of the equality cache to the statistics listener if the recording is
+     * activated.
+     *
+     * @param equalityCache
+     *            The cache used during the diff.
+     * @param diffingOptions
+     *            The options the cache was created with.
+     */
+    public static void publishEqualityCacheStatistics(LoadingCache<EObject, URI> equalityCache,
+            Map<String, String> diffingOptions) {
+        if (!isOptionSet(diffingOptions, OPTION_EQUALITY_CACHE_RECORD_STATS)) {
+            return;
+        }
+        CacheStats stats = equalityCache.stats();
+        logger.info("Equality cache statistics: " + stats);
+        Consumer<CacheStats> listener = equalityCacheStatisticsListener;
+        if (listener != null) {
+            listener.accept(stats);
+        }
+    }
+
+    /**
+     * Check if an option is set to a not empty value.
+     *
+     * @param diffingOptions
+     *            The options map.
+     * @param optionKey
+     *            The key of the option to check.
+     * @return True if the option is set and not empty.
+     */
+    private static boolean isOptionSet(Map<String, String> diffingOptions, String optionKey) {
+        return !Strings.nullToEmpty(diffingOptions.get(optionKey)).trim().isEmpty();
+    }
+
     /**
      * Initialize the post processors and build an according registry.
      *
@@ -329,7 +469,7 @@ public class JaMoPPDiffer implements Differ {
      */
     private IPostProcessor.Descriptor.Registry<String> initPostProcessors(PackageIgnoreChecker packageIgnoreChecker,
             Map<String, String> diffingOptions) {
-        IPostProcessor customPostProcessor = new JaMoPPPostProcessor(diffingOptions);
+        IPostProcessor customPostProcessor = createPostProcessor(diffingOptions);
         Pattern any = Pattern.compile(".*");
         IPostProcessor.Descriptor descriptor = new BasicPostProcessorDescriptorImpl(customPostProcessor, any, any);
         IPostProcessor.Descriptor.Registry<String> postProcessorRegistry = new PostProcessorDescriptorRegistryImpl<String>();
@@ -337,6 +477,17 @@ public class JaMoPPDiffer implements Differ {
         return postProcessorRegistry;
     }
 
+    /**
+     * Create the JaMoPP specific post processor.
+     *
+     * @param diffingOptions
+     *            The options to configure the post processor.
+     * @return The post processor to refine and clean up the comparison.
+     */
+    protected JaMoPPPostProcessor createPostProcessor(Map<String, String> diffingOptions) {
+        return new JaMoPPPostProcessor(diffingOptions);
+    }
+
     /**
      * Init the comparator instance to be used for comparison.
      *
@@ -399,14 +550,16 @@ public class JaMoPPDiffer implements Differ {
      *            The package ignore checker to use in the match engine.
      * @param diffingOptions
      *            The options configuring the comparison.
+     * @param equalityCache
+     *            The cache to be used by the equality helper.
      *
      * @return The registry containing all prepared match engines
      */
     private IMatchEngine.Factory.Registry initMatchEngine(PackageIgnoreChecker packageIgnoreChecker,
-            Map<String, String> diffingOptions) {
+            Map<String, String> diffingOptions, LoadingCache<EObject, URI> equalityCache) {
 
         SimilarityChecker similarityChecker = initSimilarityChecker(diffingOptions);
-        IEqualityHelper equalityHelper = initEqualityHelper(similarityChecker);
+        IEqualityHelper equalityHelper = initEqualityHelper(similarityChecker, equalityCache);
         EqualityStrategy equalityStrategy = new JaMoPPEqualityStrategy(similarityChecker);
         IgnoreStrategy ignoreStrategy = new JaMoPPIgnoreStrategy(packageIgnoreChecker);
         StrategyResourceMatcher resourceMatcher = initResourceMatcher(diffingOptions);
@@ -445,10 +598,11 @@ public class JaMoPPDiffer implements Differ {
      *
      * @param similarityChecker
      *            The similarity checker to use.
+     * @param cache
+     *            The cache to use.
      * @return The prepared equality helper.
      */
-    private IEqualityHelper initEqualityHelper(SimilarityChecker similarityChecker) {
-        final LoadingCache<EObject, org.eclipse.emf.common.util.URI> cache = initEqualityCache();
+    private IEqualityHelper initEqualityHelper(SimilarityChecker similarityChecker, LoadingCache<EObject, URI> cache) {
         IEqualityHelper equalityHelper = new JaMoPPEqualityHelper(cache, similarityChecker);
         return equalityHelper;
     }
@@ -523,6 +677,12 @@ public class JaMoPPDiffer implements Differ {
         options.put(OPTION_JAVA_PACKAGE_NORMALIZATION, "");
         options.put(JaMoPPPostProcessor.OPTION_DIFF_CLEANUP_DERIVED_COPIES, "");
         options.put(JaMoPPPostProcessor.OPTION_DIFF_STATISTICS_LOG_DIR, "");
+        options.put(OPTION_EQUALITY_CACHE_MAX_SIZE,
+                String.valueOf(DefaultMatchEngine.DEFAULT_EOBJECT_URI_CACHE_MAX_SIZE));
+        options.put(OPTION_EQUALITY_CACHE_WEIGHER, "");
+        options.put(OPTION_EQUALITY_CACHE_RECORD_STATS, "");
+        options.put(OPTION_LOADING_THREAD_COUNT,
+                String.valueOf(JaMoPPSoftwareModelExtractor.DEFAULT_LOADING_THREAD_COUNT));
         return options;
     }
 
@@ -12,10 +12,12 @@
 package org.splevo.jamopp.diffing.postprocessor;
 
 import java.io.File;
-import java.util.HashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.Monitor;
@@ -177,28 +179,57 @@ public class JaMoPPPostProcessor implements IPostProcessor {
      * Remove nested diffs from the model. No nested variation points are supported yet. So we are
      * not able to handle nested differences in the downstream process.
      *
+     * The match tree is traversed once. While descending, the parent matches of statements with
+     * differences are kept, so the differences of a match are only checked against these parent
+     * matches instead of walking up all parent matches for each difference.
+     *
      * @param comparison
      *            The comparison model to clean up.
      */
-    private void cleanNestedDifferences(Comparison comparison) {
-        Set<Diff> diffsToRemove = new HashSet<Diff>();
-        for (Diff diff : comparison.getDifferences()) {
+    protected void cleanNestedDifferences(Comparison comparison) {
+        List<Diff> diffsToRemove = new ArrayList<Diff>();
+        Deque<Match> statementParentMatches = new ArrayDeque<Match>();
+        for (Match match : comparison.getMatches()) {
+            collectNestedDifferences(match, statementParentMatches, diffsToRemove);
+        }
 
-            Match parentMatch = getParentMatch(diff.getMatch());
-            while (parentMatch != null) {
+        for (Diff diff : diffsToRemove) {
+            diff.getMatch().getDifferences().remove(diff);
+        }
+    }
 
-                if (parentMatch.getDifferences().size() > 0 && atLeastOneDiffIsStatement(parentMatch)
-                        && oneIsParent(parentMatch, diff) && noClassElement(parentMatch)) {
-                    diffsToRemove.add(diff);
-                    break;
+    /**
+     * Collect the nested diffs of a match and its sub matches.
+     *
+     * @param match
+     *            The match to check.
+     * @param statementParentMatches
+     *            The parent matches of statements with differences, the nearest parent first.
+     * @param diffsToRemove
+     *            The list to add the nested diffs to.
+     */
+    private void collectNestedDifferences(Match match, Deque<Match> statementParentMatches, List<Diff> diffsToRemove) {
+        if (!statementParentMatches.isEmpty()) {
+            for (Diff diff : match.getDifferences()) {
+                for (Match parentMatch : statementParentMatches) {
+                    if (oneIsParent(parentMatch, diff)) {
+                        diffsToRemove.add(diff);
+                        break;
+                    }
                 }
-
-                parentMatch = getParentMatch(parentMatch);
             }
         }
 
-        for (Diff diff : diffsToRemove) {
-            diff.getMatch().getDifferences().remove(diff);
+        boolean isStatementParent = match.getDifferences().size() > 0 && atLeastOneDiffIsStatement(match)
+                && noClassElement(match);
+        if (isStatementParent) {
+            statementParentMatches.push(match);
+        }
+        for (Match subMatch : match.getSubmatches()) {
+            collectNestedDifferences(subMatch, statementParentMatches, diffsToRemove);
+        }
+        if (isStatementParent) {
+            statementParentMatches.pop();
         }
     }
 
@@ -12,7 +12,11 @@
 package org.splevo.jamopp.diffing.scope;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EObject;
@@ -39,8 +43,18 @@ public class IgnoreSwitch extends ComposedSwitch<Boolean> {
     /** The logger to be shared by all instances of this class. */
     private static Logger logger = Logger.getLogger(IgnoreSwitch.class);
 
-    /** The packages to be ignored. */
-    private List<String> ignorePackages = new ArrayList<String>();
+    /** The compiled patterns of the packages to be ignored. */
+    private List<Pattern> ignorePackages = new ArrayList<Pattern>();
+
+    /**
+     * The decisions for the elements defining a package path (packages, compilation units and
+     * types) by identity. Contained elements are decided by their container, so they reuse these
+     * decisions. A switch is created per diff, so the cache does not outlive the compared models.
+     */
+    private Map<EObject, Boolean> decisionCache = new IdentityHashMap<EObject, Boolean>();
+
+    /** The decisions for package paths. */
+    private Map<String, Boolean> packagePathDecisionCache = new HashMap<String, Boolean>();
 
     /**
      * Instantiates a new ignore switch. Constructor initializes the sub switches for specific model
@@ -50,7 +64,9 @@ public class IgnoreSwitch extends ComposedSwitch<Boolean> {
      *            the packages to ignore
      */
     public IgnoreSwitch(List<String> ignorePackages) {
-        this.ignorePackages.addAll(ignorePackages);
+        for (String regex : ignorePackages) {
+            this.ignorePackages.add(Pattern.compile(regex));
+        }
         addSwitch(new TypesIgnoreSwitch());
         addSwitch(new MembersIgnoreSwitch());
         addSwitch(new VariablesIgnoreSwitch());
@@ -74,8 +90,7 @@ public class IgnoreSwitch extends ComposedSwitch<Boolean> {
          */
         @Override
         public Boolean caseType(Type object) {
-            String packagePath = JaMoPPModelUtil.buildNamespacePath(object);
-            return shouldBeIgnored(packagePath);
+            return shouldBeIgnored(object);
         }
 
         @Override
@@ -141,14 +156,12 @@ public class IgnoreSwitch extends ComposedSwitch<Boolean> {
     private class ContainersIgnoreSwitch extends ContainersSwitch<Boolean> {
         @Override
         public Boolean casePackage(org.emftext.language.java.containers.Package object) {
-            String packagePath = JaMoPPModelUtil.buildNamespacePath(object);
-            return shouldBeIgnored(packagePath);
+            return shouldBeIgnored(object);
         }
 
         @Override
         public Boolean caseCompilationUnit(CompilationUnit object) {
-            String packagePath = JaMoPPModelUtil.buildNamespacePath(object);
-            return shouldBeIgnored(packagePath);
+            return shouldBeIgnored(object);
         }
     }
 
@@ -208,12 +221,41 @@ public class IgnoreSwitch extends ComposedSwitch<Boolean> {
      * @return true/false whether it should be ignored or not.
      */
     public Boolean shouldBeIgnored(String packagePath) {
-
-        for (String regex : ignorePackages) {
-            if (packagePath.matches(regex)) {
-                return Boolean.TRUE;
+        if (ignorePackages.isEmpty()) {
+            return Boolean.FALSE;
+        }
+        Boolean decision = packagePathDecisionCache.get(packagePath);
+        if (decision == null) {
+            decision = Boolean.FALSE;
+            for (Pattern pattern : ignorePackages) {
+                if (pattern.matcher(packagePath).matches()) {
+                    decision = Boolean.TRUE;
+                    break;
+                }
             }
+            packagePathDecisionCache.put(packagePath, decision);
         }
-        return Boolean.FALSE;
+        return decision;
+    }
+
+    /**
+     * Check an element defining a package path (package, compilation unit or type) whether its
+     * package path matches one of the ignore package patterns. The decision is cached for the
+     * element.
+     *
+     * @param element
+     *            the element to check
+     * @return true/false whether it should be ignored or not.
+     */
+    private Boolean shouldBeIgnored(EObject element) {
+        if (ignorePackages.isEmpty()) {
+            return Boolean.FALSE;
+        }
+        Boolean decision = decisionCache.get(element);
+        if (decision == null) {
+            decision = shouldBeIgnored(JaMoPPModelUtil.buildNamespacePath(element));
+            decisionCache.put(element, decision);
+        }
+        return decision;
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.splevo.diffing.util.Normalizer;
 
 import com.google.common.collect.Maps;
 
@@ -35,9 +36,9 @@ public class SimilarityChecker {
     @SuppressWarnings("unused")
     private Logger logger = Logger.getLogger(SimilarityChecker.class);
 
-    private LinkedHashMap<Pattern, String> classifierNormalizations = null;
-    private LinkedHashMap<Pattern, String> compilationUnitNormalizations = null;
-    private LinkedHashMap<Pattern, String> packageNormalizations = null;
+    private Normalizer classifierNormalizations = null;
+    private Normalizer compilationUnitNormalizations = null;
+    private Normalizer packageNormalizations = null;
     private boolean defaultCheckStatementPositionFlag = true;
 
     /**
@@ -54,6 +55,23 @@ public class SimilarityChecker {
      */
     public SimilarityChecker(LinkedHashMap<Pattern, String> classifierNormalizations,
             LinkedHashMap<Pattern, String> compilationUnitNormalizations, LinkedHashMap<Pattern, String> packageNormalizations) {
+        this(new Normalizer(classifierNormalizations), new Normalizer(compilationUnitNormalizations),
+                new Normalizer(packageNormalizations));
+    }
+
+    /**
+     * Constructor to share already prepared normalizers, including their caches of normalized
+     * names.
+     *
+     * @param classifierNormalizations
+     *            The normalizer for classifier names.
+     * @param compilationUnitNormalizations
+     *            The normalizer for compilation unit names.
+     * @param packageNormalizations
+     *            The normalizer for package names.
+     */
+    SimilarityChecker(Normalizer classifierNormalizations, Normalizer compilationUnitNormalizations,
+            Normalizer packageNormalizations) {
         this.classifierNormalizations = classifierNormalizations;
         this.compilationUnitNormalizations = compilationUnitNormalizations;
         this.packageNormalizations = packageNormalizations;
@@ -63,9 +81,7 @@ public class SimilarityChecker {
      * Default constructor for a similarity checker without any normalization configurations.
      */
     public SimilarityChecker() {
-        this.classifierNormalizations = Maps.newLinkedHashMap();
-        this.compilationUnitNormalizations = Maps.newLinkedHashMap();
-        this.packageNormalizations = Maps.newLinkedHashMap();
+        this(Maps.newLinkedHashMap(), Maps.newLinkedHashMap(), Maps.newLinkedHashMap());
     }
     
     /**
@@ -13,7 +13,6 @@
 package org.splevo.jamopp.diffing.similarity;
 
 import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.apache.log4j.Logger;
@@ -136,7 +135,7 @@ import org.emftext.language.java.types.util.TypesSwitch;
 import org.emftext.language.java.variables.AdditionalLocalVariable;
 import org.emftext.language.java.variables.Variable;
 import org.emftext.language.java.variables.util.VariablesSwitch;
-import org.splevo.diffing.util.NormalizationUtil;
+import org.splevo.diffing.util.Normalizer;
 import org.splevo.jamopp.diffing.util.JaMoPPModelUtil;
 import org.splevo.jamopp.util.JaMoPPElementUtil;
 
@@ -187,6 +186,27 @@ public class SimilaritySwitch extends ComposedSwitch<Boolean> {
             LinkedHashMap<Pattern, String> classifierNormalizations,
             LinkedHashMap<Pattern, String> compilationUnitNormalizations,
             LinkedHashMap<Pattern, String> packageNormalizations) {
+        this(compareElement, checkStatementPosition, new Normalizer(classifierNormalizations),
+                new Normalizer(compilationUnitNormalizations), new Normalizer(packageNormalizations));
+    }
+
+    /**
+     * Constructor requiring the element to compare with and the prepared normalizers.
+     * 
+     * @param compareElement
+     *            The right-side / original element to check the similarity against.
+     * @param checkStatementPosition
+     *            Flag if the similarity check should consider the position of a statement or not.
+     * @param classifierNormalizations
+     *            The normalizer for classifier names.
+     * @param compilationUnitNormalizations
+     *            The normalizer for compilation unit names.
+     * @param packageNormalizations
+     *            The normalizer for package names.
+     */
+    SimilaritySwitch(EObject compareElement, boolean checkStatementPosition,
+            Normalizer classifierNormalizations, Normalizer compilationUnitNormalizations,
+            Normalizer packageNormalizations) {
         this.similarityChecker = new SimilarityChecker(classifierNormalizations, compilationUnitNormalizations,
                 packageNormalizations);
         this.similarityChecker.setCheckStatementPositionOnDefault(checkStatementPosition);
@@ -277,7 +297,7 @@ public class SimilaritySwitch extends ComposedSwitch<Boolean> {
          * A list of patterns replace any match in a classifier name with the defined replacement
          * string.
          */
-        private Map<Pattern, String> classifierNormalizationPatterns = null;
+        private Normalizer classifierNormalizationPatterns = null;
 
         /**
          * Constructor to set the required configurations.
@@ -286,7 +306,7 @@ public class SimilaritySwitch extends ComposedSwitch<Boolean> {
          *            A list of patterns replace any match in a classifier name with the defined
          *            replacement string.
          */
-        public ClassifiersSimilaritySwitch(Map<Pattern, String> classifierNormalizationPatterns) {
+        public ClassifiersSimilaritySwitch(Normalizer classifierNormalizationPatterns) {
             this.classifierNormalizationPatterns = classifierNormalizationPatterns;
         }
 
@@ -303,7 +323,7 @@ public class SimilaritySwitch extends ComposedSwitch<Boolean> {
 
             ConcreteClassifier classifier2 = (ConcreteClassifier) compareElement;
 
-            String name1 = NormalizationUtil.normalize(classifier1.getQualifiedName(), classifierNormalizationPatterns);
+            String name1 = classifierNormalizationPatterns.normalize(classifier1.getQualifiedName());
             String name2 = Strings.nullToEmpty(classifier2.getQualifiedName());
 
             return (name1.equals(name2));
@@ -353,9 +373,9 @@ public class SimilaritySwitch extends ComposedSwitch<Boolean> {
      */
     private class ContainersSimilaritySwitch extends ContainersSwitch<Boolean> {
 
-        private LinkedHashMap<Pattern, String> compilationUnitNormalizations = null;
+        private Normalizer compilationUnitNormalizations = null;
 
-        private LinkedHashMap<Pattern, String> packageNormalizations = null;
+        private Normalizer packageNormalizations = null;
 
         /**
          * Constructor to set the required configurations.
@@ -366,8 +386,8 @@ public class SimilaritySwitch extends ComposedSwitch<Boolean> {
          * @param packageNormalizations
          *            A list of package normalization patterns.
          */
-        public ContainersSimilaritySwitch(LinkedHashMap<Pattern, String> compilationUnitNormalizations,
-                LinkedHashMap<Pattern, String> packageNormalizations) {
+        public ContainersSimilaritySwitch(Normalizer compilationUnitNormalizations,
+                Normalizer packageNormalizations) {
             this.compilationUnitNormalizations = compilationUnitNormalizations;
             this.packageNormalizations = packageNormalizations;
         }
@@ -391,15 +411,14 @@ public class SimilaritySwitch extends ComposedSwitch<Boolean> {
 
             CompilationUnit unit2 = (CompilationUnit) compareElement;
 
-            String name1 = NormalizationUtil.normalize(unit1.getName(), compilationUnitNormalizations);
-            name1 = NormalizationUtil.normalize(name1, packageNormalizations);
+            String name1 = compilationUnitNormalizations.normalize(unit1.getName());
+            name1 = packageNormalizations.normalize(name1);
             String name2 = unit2.getName();
             if (!name1.equals(name2)) {
                 return Boolean.FALSE;
             }
 
-            String namespaceString1 = NormalizationUtil.normalizeNamespace(unit1.getNamespacesAsString(),
-                    packageNormalizations);
+            String namespaceString1 = packageNormalizations.normalize(unit1.getNamespacesAsString());
             String namespaceString2 = Strings.nullToEmpty(unit2.getNamespacesAsString());
             if (!namespaceString1.equals(namespaceString2)) {
                 return Boolean.FALSE;
@@ -424,7 +443,7 @@ public class SimilaritySwitch extends ComposedSwitch<Boolean> {
             Package package2 = (Package) compareElement;
 
             String packagePath1 = JaMoPPModelUtil.buildNamespacePath(package1);
-            packagePath1 = NormalizationUtil.normalizeNamespace(packagePath1, packageNormalizations);
+            packagePath1 = packageNormalizations.normalize(packagePath1);
             String packagePath2 = JaMoPPModelUtil.buildNamespacePath(package2);
             if (!packagePath1.equals(packagePath2)) {
                 return Boolean.FALSE;
@@ -6,6 +6,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.log4j.Logger;
@@ -15,11 +19,13 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.Resource.Factory;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.emftext.language.java.JavaClasspath;
+import org.emftext.language.java.containers.JavaRoot;
 import org.splevo.commons.emf.FileResourceHandling.ResourceHandlingOptions;
 import org.splevo.commons.emf.SPLevoResourceSet;
 import org.splevo.extraction.SoftwareModelExtractionException;
 import org.splevo.extraction.SoftwareModelExtractor;
 import org.splevo.jamopp.extraction.cache.ReferenceCache;
+import org.splevo.jamopp.extraction.resource.JavaSourceOrClassFileCachingResource;
 import org.splevo.jamopp.extraction.resource.JavaSourceOrClassFileResourceCachingFactoryImpl;
 
 import com.google.common.collect.Lists;
@@ -38,6 +44,37 @@ public class JaMoPPSoftwareModelExtractor implements SoftwareModelExtractor {
     public static final String EXTRACTOR_ID = "JaMoPPSoftwareModelExtractor";
     private static final String EXTRACTOR_LABEL = "JaMoPP Software Model Extractor";
 
+    /** The default number of threads to load java files with. One thread means sequential loading. */
+    public static final int DEFAULT_LOADING_THREAD_COUNT = 1;
+
+    /** The number of threads to load java files with. */
+    private int loadingThreadCount = DEFAULT_LOADING_THREAD_COUNT;
+
+    /**
+     * Set the number of threads to load the java files with.
+     *
+     * <p>
+     * With more than one thread, the java files are parsed into worker-local resource sets in
+     * parallel and moved into the target resource set afterwards. The references are resolved once
+     * all files are loaded, in the same way as for the sequential loading.
+     * </p>
+     *
+     * @param loadingThreadCount
+     *            The number of threads. Values lower than one are treated as one.
+     */
+    public void setLoadingThreadCount(int loadingThreadCount) {
+        this.loadingThreadCount = Math.max(1, loadingThreadCount);
+    }
+
+    /**
+     * Get the number of threads to load the java files with.
+     *
+     * @return The number of threads.
+     */
+    public int getLoadingThreadCount() {
+        return loadingThreadCount;
+    }
+
     /**
      * Extract the source model of a list of java projects. One project is the main project while a
      * list of additional projects to analyze can be specified. The reason for one main project is,
@@ -121,7 +158,7 @@ public class JaMoPPSoftwareModelExtractor implements SoftwareModelExtractor {
    
     /**
      * Load all java files found in the projects into a ResourceSet and return the list of created
-     * resources.
+     * resources. With more than one loading thread, the files are loaded in parallel.
      *
      * @param targetResourceSet
      *            The preconfigured resource set to load to.
@@ -133,6 +170,9 @@ public class JaMoPPSoftwareModelExtractor implements SoftwareModelExtractor {
      */
     protected List<Resource> loadProjectJavaFiles(ResourceSet targetResourceSet, Iterable<String> projectPaths)
             throws SoftwareModelExtractionException {
+        if (loadingThreadCount > 1) {
+            return loadProjectJavaFilesInParallel(targetResourceSet, projectPaths);
+        }
         List<Resource> resources = Lists.newArrayList();
         for (String projectPath : projectPaths) {
             List<Resource> projectResources = loadProjectJavaFiles(targetResourceSet, projectPath);
@@ -142,6 +182,133 @@ public class JaMoPPSoftwareModelExtractor implements SoftwareModelExtractor {
         return resources;
     }
 
+    /**
+     * Load all java files found in the projects in parallel and move them into a ResourceSet. The
+     * files are parsed into one worker-local resource set per thread. The worker resource sets and
+     * their class paths are released after the resources are moved. The returned resources are in
+     * the same order as for the sequential loading.
+     *
+     * @param targetResourceSet
+     *            The preconfigured resource set to move the resources to.
+     * @param projectPaths
+     *            The base paths of the projects containing the java files.
+     * @return The list of newly created resources.
+     * @throws SoftwareModelExtractionException
+     *             thrown if a java file could not be parsed successfully.
+     */
+    private List<Resource> loadProjectJavaFilesInParallel(ResourceSet targetResourceSet,
+            Iterable<String> projectPaths) throws SoftwareModelExtractionException {
+        List<File> javaFiles = Lists.newArrayList();
+        for (String projectPath : projectPaths) {
+            javaFiles.addAll(FileUtils.listFiles(new File(projectPath), new String[] { "java" }, true));
+        }
+
+        List<Resource> resources = Lists.newArrayList();
+        if (javaFiles.isEmpty()) {
+            return resources;
+        }
+
+        int partitionSize = (javaFiles.size() + loadingThreadCount - 1) / loadingThreadCount;
+        List<List<File>> partitions = Lists.partition(javaFiles, partitionSize);
+        List<ResourceSet> workerResourceSets = Lists.newArrayList();
+        ExecutorService executor = Executors.newFixedThreadPool(partitions.size());
+        try {
+            List<Future<List<Resource>>> futures = Lists.newArrayList();
+            for (final List<File> partition : partitions) {
+                final ResourceSet workerResourceSet = createWorkerResourceSet(targetResourceSet);
+                workerResourceSets.add(workerResourceSet);
+                futures.add(executor.submit(() -> loadJavaFilesInResourceSet(partition, workerResourceSet)));
+            }
+            for (Future<List<Resource>> future : futures) {
+                for (Resource resource : future.get()) {
+                    moveResource(resource, targetResourceSet);
+                    resources.add(resource);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SoftwareModelExtractionException("Interrupted while parsing project resources.", e);
+        } catch (ExecutionException e) {
+            throw new SoftwareModelExtractionException("Failed to parse project resources.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            for (ResourceSet workerResourceSet : workerResourceSets) {
+                releaseWorkerResourceSet(workerResourceSet);
+            }
+        }
+
+        logger.info(String.format("%d Java files added to resource set using %d threads", resources.size(),
+                partitions.size()));
+        return resources;
+    }
+
+    /**
+     * Create a resource set to load java files in a worker thread. The worker resource set uses the
+     * same load options as the target resource set.
+     *
+     * <p>
+     * The caching factory of the target resource set and its {@link ReferenceCache} are not thread
+     * safe. Therefore, the worker resource set does not share them. Java files are created as
+     * caching resources without a reference cache, and class files with the stateless JaMoPP
+     * factory. The reference cache of the target resource set is assigned to the resources when
+     * they are moved, before any reference is resolved.
+     * </p>
+     *
+     * @param targetResourceSet
+     *            The resource set the loaded resources are moved to.
+     * @return The worker resource set.
+     */
+    private ResourceSet createWorkerResourceSet(ResourceSet targetResourceSet) {
+        ResourceSet workerResourceSet = new SPLevoResourceSet();
+        workerResourceSet.getLoadOptions().putAll(targetResourceSet.getLoadOptions());
+        final Factory jamoppFactory = (Factory) targetResourceSet.getResourceFactoryRegistry()
+                .getExtensionToFactoryMap().get("class");
+        Map<String, Object> factoryMap = workerResourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap();
+        factoryMap.put("java", (Factory) uri -> uri.isFile() || uri.isPlatform()
+                ? new JavaSourceOrClassFileCachingResource(uri, null) : jamoppFactory.createResource(uri));
+        factoryMap.put("class", jamoppFactory);
+        JavaClasspath.get(workerResourceSet);
+        return workerResourceSet;
+    }
+
+    /**
+     * Release a worker resource set once its resources are moved to the target resource set. The
+     * class path registered for the worker resource set is removed and resources which were not
+     * moved, e.g., because another worker failed, are unloaded.
+     *
+     * @param workerResourceSet
+     *            The worker resource set to release.
+     */
+    private void releaseWorkerResourceSet(ResourceSet workerResourceSet) {
+        for (Resource resource : Lists.newArrayList(workerResourceSet.getResources())) {
+            resource.unload();
+        }
+        workerResourceSet.getResources().clear();
+        JavaClasspath.remove(workerResourceSet);
+    }
+
+    /**
+     * Move a loaded resource into the target resource set, assign the reference cache of the target
+     * resource set to it and register its contents in the class path of the target resource set.
+     *
+     * @param resource
+     *            The resource to move.
+     * @param targetResourceSet
+     *            The resource set to move the resource to.
+     */
+    private void moveResource(Resource resource, ResourceSet targetResourceSet) {
+        targetResourceSet.getResources().add(resource);
+        if (resource instanceof JavaSourceOrClassFileCachingResource) {
+            ((JavaSourceOrClassFileCachingResource) resource).setReferenceCache(getReferenceCache(targetResourceSet));
+        }
+        JavaClasspath classpath = JavaClasspath.get(targetResourceSet);
+        for (Object content : resource.getContents()) {
+            if (content instanceof JavaRoot) {
+                classpath.registerJavaRoot((JavaRoot) content, resource.getURI());
+            }
+        }
+    }
+
     /**
      * Load all java files found in a project into a ResourceSet and return the list of created
      * resources.
@@ -206,10 +373,25 @@ public class JaMoPPSoftwareModelExtractor implements SoftwareModelExtractor {
      *             An exception during resource access.
      */
     private List<Resource> loadAllJavaFilesInResourceSet(File rootFolder, ResourceSet rs) throws IOException {
+        Collection<File> javaFiles = FileUtils.listFiles(rootFolder, new String[] { "java" }, true);
+        return loadJavaFilesInResourceSet(javaFiles, rs);
+    }
+
+    /**
+     * Load a list of java files as resources.
+     *
+     * @param javaFiles
+     *            The java files to load.
+     * @param rs
+     *            The resource set to add them to.
+     * @return The list of loaded resources.
+     * @throws IOException
+     *             An exception during resource access.
+     */
+    private List<Resource> loadJavaFilesInResourceSet(Collection<File> javaFiles, ResourceSet rs) throws IOException {
 
         List<Resource> resources = Lists.newArrayList();
 
-        Collection<File> javaFiles = FileUtils.listFiles(rootFolder, new String[] { "java" }, true);
         for (File javaFile : javaFiles) {
             
             Resource resource = parseResource(javaFile, rs);
@@ -49,6 +49,18 @@ public class JavaSourceOrClassFileCachingResource extends JavaResource2 implemen
     }
 
 
+    /**
+     * Set the reference cache the resource should use for resolving. Resources parsed in parallel
+     * are created without a cache and get the cache of their target resource set once they are
+     * moved into it.
+     *
+     * @param referenceCache
+     *            The reference cache to use. If null is provided no cache is used.
+     */
+    public void setReferenceCache(ReferenceCache referenceCache) {
+        this.referenceCache = referenceCache;
+    }
+
     @Override
     public EObject getEObject(String id) {
 
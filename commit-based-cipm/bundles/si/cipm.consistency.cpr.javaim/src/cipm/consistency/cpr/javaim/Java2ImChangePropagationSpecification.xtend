@@ -3,15 +3,21 @@ package cipm.consistency.cpr.javaim
 import org.emftext.language.java.members.Method
 import tools.vitruv.framework.correspondence.CorrespondenceModel
 import tools.vitruv.framework.userinteraction.UserInteractor
-import tools.vitruv.framework.change.echange.EChange
-import tools.vitruv.framework.propagation.ResourceAccess
 import tools.vitruv.framework.correspondence.CorrespondenceModelUtil
 import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF
 import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationModel
 import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationModelPackage
-import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute
 import cipm.consistency.models.instrumentation.InstrumentationModelUtil
 import tools.cipm.seff.extended.ExtendedJava2PcmMethodBodyChangePreprocessor
+import java.util.List
+import java.util.HashMap
+import java.util.ArrayList
+import java.util.Collections
+import java.util.IdentityHashMap
+import org.palladiosimulator.pcm.seff.AbstractAction
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.ActionInstrumentationPoint
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationType
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.ServiceInstrumentationPoint
 
 /**
  * Propagates changes in method bodies to the extended instrumentation model.
@@ -25,13 +31,10 @@ class Java2ImChangePropagationSpecification extends ExtendedJava2PcmMethodBodyCh
 // no actions for which instrumentation points can be generated. As a result, to ensure that the temporal constraint is
 // met, the propagation rules for Java->IM extend the rules for Java->PCM and are executed after them.
 	
-	override propagateChange(EChange change, CorrespondenceModel correspondenceModel, ResourceAccess resourceAccess) {
-		super.propagateChange(change, correspondenceModel, resourceAccess)
-		if (super.doesHandleChange(change, correspondenceModel)) {
-			val attrChange = change as ReplaceSingleValuedEAttribute<?, ?>;
-			val meth = attrChange.affectedEObject as Method;
-			executeJava2ImTransformation(correspondenceModel, userInteractor, meth)
-		}
+	protected override void executeClassMethodBodyChangeRefiner(CorrespondenceModel correspondenceModel,
+		UserInteractor userInteracting, List<Method> newMethods) {
+		super.executeClassMethodBodyChangeRefiner(correspondenceModel, userInteracting, newMethods)
+		newMethods.forEach[executeJava2ImTransformation(correspondenceModel, userInteracting, it)]
 	}
 	
 	private def executeJava2ImTransformation(CorrespondenceModel correspondenceModel,
@@ -44,14 +47,43 @@ class Java2ImChangePropagationSpecification extends ExtendedJava2PcmMethodBodyCh
 		
 		if (!correspondingSEFFs.empty) {
 			val seff = correspondingSEFFs.last
-			var sip = im.points.filter[it.service == seff].last
+			var sip = ServiceInstrumentationPointIndex.getIndex(im).getPoint(seff)
 			if (sip !== null) {
-				sip.actionInstrumentationPoints.clear
-				InstrumentationModelUtil.recursiveBuildImm(seff, sip)
+				reconcileActionInstrumentationPoints(sip, InstrumentationModelUtil.recursiveBuildImm(seff))
 			} else {
 				sip = InstrumentationModelUtil.recursiveBuildImm(seff)
 				im.points.add(sip)
 			}
 		}
 	}
+	
+	/**
+	 * Updates the action instrumentation points of an existing service instrumentation point so that they match the
+	 * points of a rebuilt one. Points for unchanged actions are kept and only take over the activation state,
+	 * points for new actions are moved from the rebuilt service instrumentation point, and points for removed actions
+	 * are removed.
+	 */
+	private def void reconcileActionInstrumentationPoints(ServiceInstrumentationPoint sip,
+		ServiceInstrumentationPoint rebuiltSip) {
+		val existingPoints = new HashMap<Pair<AbstractAction, InstrumentationType>, ActionInstrumentationPoint>
+		for (aip : sip.actionInstrumentationPoints) {
+			existingPoints.putIfAbsent(aip.^action -> aip.type, aip)
+		}
+		val keptPoints = Collections.newSetFromMap(new IdentityHashMap<ActionInstrumentationPoint, Boolean>)
+		for (rebuiltAip : new ArrayList(rebuiltSip.actionInstrumentationPoints)) {
+			val aip = existingPoints.remove(rebuiltAip.^action -> rebuiltAip.type)
+			if (aip !== null) {
+				// The value is always set so that the activation is notified even if the point is already active.
+				aip.active = rebuiltAip.active
+				keptPoints += aip
+			} else {
+				sip.actionInstrumentationPoints += rebuiltAip
+				keptPoints += rebuiltAip
+			}
+		}
+		val removedPoints = sip.actionInstrumentationPoints.filter[!keptPoints.contains(it)].toList
+		if (!removedPoints.empty) {
+			sip.actionInstrumentationPoints -= removedPoints
+		}
+	}
 }
@@ -0,0 +1,97 @@
+package cipm.consistency.cpr.javaim;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
+
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationModel;
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.ServiceInstrumentationPoint;
+import cipm.consistency.cpr.util.ServiceInstrumentationPointAdapter;
+
+/**
+ * An index from SEFFs to their ServiceInstrumentationPoints within an InstrumentationModel. The index is attached to
+ * the InstrumentationModel and its points as an adapter so that it is kept up to date when points are added, removed,
+ * or their service changes.
+ */
+public final class ServiceInstrumentationPointIndex extends ServiceInstrumentationPointAdapter {
+	private final Map<ResourceDemandingSEFF, ServiceInstrumentationPoint> points = new IdentityHashMap<>();
+	private boolean hasMultiplePointsPerService;
+
+	private ServiceInstrumentationPointIndex(InstrumentationModel im) {
+		super(im);
+		attach();
+	}
+
+	/**
+	 * Returns the index for an InstrumentationModel. If the model has no index yet, it is created.
+	 *
+	 * @param im the InstrumentationModel.
+	 * @return the index.
+	 */
+	public static ServiceInstrumentationPointIndex getIndex(InstrumentationModel im) {
+		var index = EcoreUtil.getExistingAdapter(im, ServiceInstrumentationPointIndex.class);
+		if (index == null) {
+			index = new ServiceInstrumentationPointIndex(im);
+		}
+		return (ServiceInstrumentationPointIndex) index;
+	}
+
+	/**
+	 * Returns the ServiceInstrumentationPoint for a SEFF. If there are multiple points for the SEFF, the last one
+	 * within the InstrumentationModel is returned.
+	 *
+	 * @param seff the SEFF.
+	 * @return the ServiceInstrumentationPoint or null if there is none.
+	 */
+	public ServiceInstrumentationPoint getPoint(ResourceDemandingSEFF seff) {
+		return points.get(seff);
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ServiceInstrumentationPointIndex.class;
+	}
+
+	@Override
+	protected void pointAdded(ServiceInstrumentationPoint sip) {
+		if (sip.getService() instanceof ResourceDemandingSEFF) {
+			var previous = points.put((ResourceDemandingSEFF) sip.getService(), sip);
+			hasMultiplePointsPerService |= previous != null && previous != sip;
+		}
+	}
+
+	@Override
+	protected void pointRemoved(ServiceInstrumentationPoint sip) {
+		if (hasMultiplePointsPerService) {
+			// Another point for the same service may become the last one.
+			rebuild();
+		} else if (sip.getService() != null) {
+			points.remove(sip.getService(), sip);
+		}
+	}
+
+	@Override
+	protected void serviceChanged(ServiceInstrumentationPoint sip) {
+		rebuild();
+	}
+
+	@Override
+	protected void pointsMoved() {
+		if (hasMultiplePointsPerService) {
+			rebuild();
+		}
+	}
+
+	private void rebuild() {
+		for (var sip : points.values()) {
+			sip.eAdapters().remove(this);
+		}
+		points.clear();
+		hasMultiplePointsPerService = false;
+		for (var sip : getInstrumentationModel().getPoints()) {
+			addPoint(sip);
+		}
+	}
+}
@@ -1,8 +1,14 @@
 package cipm.consistency.cpr.javapcm.additional.validation;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
 
 import org.palladiosimulator.pcm.repository.BasicComponent;
 import org.palladiosimulator.pcm.repository.OperationInterface;
@@ -13,6 +19,7 @@ import org.palladiosimulator.pcm.repository.RepositoryComponent;
 import org.palladiosimulator.pcm.repository.RepositoryFactory;
 import org.palladiosimulator.pcm.seff.AbstractAction;
 import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.seff.ResourceDemandingBehaviour;
 import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
 
 import tools.vitruv.extensions.dslsruntime.reactions.helper.ReactionsCorrespondenceHelper;
@@ -29,6 +36,8 @@ public class ExternalCallEmptyTargetFiller {
 	private CorrespondenceModel cm;
 	private Repository repository;
 	private Path collectionFile;
+	private List<OperationSignature> signatures;
+	private List<String> signaturesRepr;
 
 	/**
 	 * Creates a new instance.
@@ -45,76 +54,130 @@ public class ExternalCallEmptyTargetFiller {
 	}
 
 	/**
-	 * Tries to find the targets for all external calls without a target.
+	 * Tries to find the targets for all external calls without a target. The repository is not saved.
+	 * 
+	 * @return true if a target has been set so that the repository needs to be saved. false otherwise.
 	 */
-	public void fillExternalCalls() {
-		var pairs = ExternalCallCallTargetPairCollectorReaderWriter.read(collectionFile);
+	public boolean fillExternalCalls() {
+		Map<ResourceDemandingSEFF, Map<ExternalCallAction, String>> emptyCalls = new LinkedHashMap<>();
 		for (var comp : repository.getComponents__Repository()) {
 			if (comp instanceof BasicComponent) {
-				var basicComp = (BasicComponent) comp;
-				for (var seff : basicComp.getServiceEffectSpecifications__BasicComponent()) {
+				for (var seff : ((BasicComponent) comp).getServiceEffectSpecifications__BasicComponent()) {
 					if (seff instanceof ResourceDemandingSEFF) {
-						var rdseff = (ResourceDemandingSEFF) seff;
-						for (var iter = rdseff.eAllContents(); iter.hasNext();) {
-							var next = iter.next();
-							if (next instanceof ExternalCallAction) {
-								var extCall = (ExternalCallAction) next;
-								if (extCall.getCalledService_ExternalService() == null) {
-									fillExternalCall(pairs, basicComp, rdseff, extCall);
-								}
-							}
+						Map<ExternalCallAction, String> calls = new LinkedHashMap<>();
+						collectEmptyExternalCalls(seff, "", calls);
+						if (!calls.isEmpty()) {
+							emptyCalls.put((ResourceDemandingSEFF) seff, calls);
 						}
 					}
 				}
 			}
 		}
-		ExternalCallCallTargetPairCollectorReaderWriter.write(pairs, collectionFile);
-		try {
-			repository.eResource().save(null);
-		} catch (IOException e) {
+		if (emptyCalls.isEmpty()) {
+			return false;
+		}
+
+		var pairs = ExternalCallCallTargetPairCollectorReaderWriter.read(collectionFile);
+		if (pairs == null) {
+			pairs = new ExternalCallCallTargetPairCollector();
+		}
+		Map<List<String>, List<ExternalCallCallTargetPair>> pairIndex = new HashMap<>();
+		for (var p : pairs) {
+			var key = Arrays.asList(p.getComponentName(), p.getSeffName(), p.getExternalCallEncoding());
+			pairIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(p);
+		}
+		Map<List<String>, OperationSignature> signatureIndex = new HashMap<>();
+		for (var inter : repository.getInterfaces__Repository()) {
+			if (inter instanceof OperationInterface) {
+				for (var sig : ((OperationInterface) inter).getSignatures__OperationInterface()) {
+					signatureIndex.putIfAbsent(Arrays.asList(inter.getEntityName(), sig.getEntityName()), sig);
+				}
+			}
+		}
+
+		int pairCount = pairs.size();
+		boolean modified = false;
+		for (var seffEntry : emptyCalls.entrySet()) {
+			var seff = seffEntry.getKey();
+			var component = seff.getBasicComponent_ServiceEffectSpecification();
+			for (var callEntry : seffEntry.getValue().entrySet()) {
+				var key = Arrays.asList(component.getEntityName(), seff.getDescribedService__SEFF().getEntityName(),
+						callEntry.getValue());
+				modified |= fillExternalCall(pairs, pairIndex.getOrDefault(key, List.of()), signatureIndex,
+						component, seff, callEntry.getKey(), callEntry.getValue());
+			}
+		}
+		if (pairs.size() != pairCount) {
+			ExternalCallCallTargetPairCollectorReaderWriter.write(pairs, collectionFile);
+		}
+		return modified;
+	}
+
+	/**
+	 * Collects all external calls without a target and their encodings in one traversal. An action is encoded by its
+	 * position within its behaviour, prefixed by the encoding of the action containing the behaviour.
+	 * 
+	 * @param element the element whose contents are traversed.
+	 * @param prefix  the encoding prefix for the actions within the element.
+	 * @param calls   map in which the external calls and their encodings are stored.
+	 */
+	private void collectEmptyExternalCalls(EObject element, String prefix, Map<ExternalCallAction, String> calls) {
+		if (element instanceof ResourceDemandingBehaviour) {
+			var steps = ((ResourceDemandingBehaviour) element).getSteps_Behaviour();
+			for (int idx = 0; idx < steps.size(); idx++) {
+				var step = steps.get(idx);
+				String encoding = prefix + idx;
+				if (step instanceof ExternalCallAction
+						&& ((ExternalCallAction) step).getCalledService_ExternalService() == null) {
+					calls.put((ExternalCallAction) step, encoding);
+				}
+				collectEmptyExternalCalls(step, encoding + "-", calls);
+			}
+		}
+		for (var content : element.eContents()) {
+			if (!(content instanceof AbstractAction)) {
+				collectEmptyExternalCalls(content, prefix, calls);
+			}
 		}
 	}
 
 	/**
 	 * Performs the actual finding of the external call target.
 	 * 
-	 * @param pairs     the collection of all stored external calls and their
-	 *                  targets.
-	 * @param component
-	 * @param seff
-	 * @param action
+	 * @param pairs          the collection of all stored external calls and their
+	 *                       targets.
+	 * @param matchingPairs  the stored pairs for the external call.
+	 * @param signatureIndex the signatures indexed by their interface and service
+	 *                       name.
+	 * @param component      component in which the external call is located.
+	 * @param seff           SEFF in which the external call is located.
+	 * @param action         the external call.
+	 * @param encoding       encoding of the external call.
+	 * @return true if a target has been set. false otherwise.
 	 */
-	private void fillExternalCall(ExternalCallCallTargetPairCollector pairs, RepositoryComponent component,
-			ResourceDemandingSEFF seff, ExternalCallAction action) {
+	private boolean fillExternalCall(ExternalCallCallTargetPairCollector pairs,
+			List<ExternalCallCallTargetPair> matchingPairs, Map<List<String>, OperationSignature> signatureIndex,
+			RepositoryComponent component, ResourceDemandingSEFF seff, ExternalCallAction action, String encoding) {
 		// At first, look into the stored pairs if the external call is available.
-		for (var p : pairs) {
-			if (p.getComponentName().equals(component.getEntityName())
-					&& p.getSeffName().equals(seff.getDescribedService__SEFF().getEntityName())
-					&& p.getExternalCallEncoding().equals(encodeAbstractAction(action))) {
-				// Search for the appropriate interface and service.
-				for (var inter : repository.getInterfaces__Repository()) {
-					if (inter.getEntityName().equals(p.getInterfaceName())
-							&& inter instanceof OperationInterface) {
-						var opInter = (OperationInterface) inter;
-						for (var sig : opInter.getSignatures__OperationInterface()) {
-							if (sig.getEntityName().equals(p.getServiceName())) {
-								setCallTargetForExternalCall(component, action, sig);
-								return;
-							}
-						}
-					}
-				}
+		for (var p : matchingPairs) {
+			// Search for the appropriate interface and service.
+			var sig = signatureIndex.get(Arrays.asList(p.getInterfaceName(), p.getServiceName()));
+			if (sig != null) {
+				setCallTargetForExternalCall(component, action, sig);
+				return true;
 			}
 		}
 		// Ask the developer to decide which existing service is the target of the
 		// external call.
-		ArrayList<OperationSignature> signatures = new ArrayList<>();
-		repository.getInterfaces__Repository().stream().filter(i -> i instanceof OperationInterface)
-				.map(i -> (OperationInterface) i)
-				.forEach(i -> i.getSignatures__OperationInterface().forEach(signatures::add));
-		ArrayList<String> signaturesRepr = new ArrayList<>();
-		signatures.forEach(s -> signaturesRepr
-				.add(s.getEntityName() + "(" + s.getInterface__OperationSignature().getEntityName() + ")"));
+		if (signatures == null) {
+			signatures = new ArrayList<>();
+			repository.getInterfaces__Repository().stream().filter(i -> i instanceof OperationInterface)
+					.map(i -> (OperationInterface) i)
+					.forEach(i -> i.getSignatures__OperationInterface().forEach(signatures::add));
+			signaturesRepr = new ArrayList<>();
+			signatures.forEach(s -> signaturesRepr
+					.add(s.getEntityName() + "(" + s.getInterface__OperationSignature().getEntityName() + ")"));
+		}
 		InternalUserInteractor interactor = UserInteractionFactory.instance.createDialogUserInteractor();
 		String message = "An external call (" + action.getEntityName()
 			+ ") without a target was detected. Which service is the target?";
@@ -140,12 +203,14 @@ public class ExternalCallEmptyTargetFiller {
 			var newPair = new ExternalCallCallTargetPair();
 			newPair.setComponentName(component.getEntityName());
 			newPair.setSeffName(seff.getDescribedService__SEFF().getEntityName());
-			newPair.setExternalCallEncoding(encodeAbstractAction(action));
+			newPair.setExternalCallEncoding(encoding);
 			newPair.setServiceName(service.getEntityName());
 			newPair.setInterfaceName(service.getInterface__OperationSignature().getEntityName());
 			pairs.add(newPair);
 			setCallTargetForExternalCall(component, action, service);
+			return true;
 		}
+		return false;
 	}
 
 	/**
@@ -178,26 +243,4 @@ public class ExternalCallEmptyTargetFiller {
 		component.getRequiredRoles_InterfaceRequiringEntity().add(newRole);
 		ReactionsCorrespondenceHelper.addCorrespondence(cm, action, newRole, null);
 	}
-
-	/**
-	 * Encodes an AbstractAction based on its position.
-	 * 
-	 * @param action the action to encode.
-	 * @return the encoding.
-	 */
-	private String encodeAbstractAction(AbstractAction action) {
-		var parent = action.getResourceDemandingBehaviour_AbstractAction();
-		int lastIndex = parent.getSteps_Behaviour().indexOf(action);
-		if (!(parent.eContainer() instanceof RepositoryComponent)) {
-			var container = parent.eContainer();
-			while (!(container instanceof AbstractAction) && container != null) {
-				container = container.eContainer();
-			}
-			if (container == null) {
-				return Integer.toString(lastIndex);
-			}
-			return encodeAbstractAction((AbstractAction) container) + "-" + lastIndex;
-		}
-		return Integer.toString(lastIndex);
-	}
 }
@@ -0,0 +1,100 @@
+package cipm.consistency.cpr.pcmim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationModel;
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.ServiceInstrumentationPoint;
+import cipm.consistency.cpr.util.ServiceInstrumentationPointAdapter;
+
+/**
+ * Tracks the ServiceInstrumentationPoints of an InstrumentationModel whose service is null or a proxy. All points are
+ * checked once when the tracker is attached to the InstrumentationModel. Afterward, the tracker is attached to the
+ * InstrumentationModel and its points as an adapter so that only added points and points whose service changes are
+ * checked again.
+ *
+ * Unloading a resource turns its contents into proxies without notifying the points which reference them. Therefore,
+ * the tracker is also attached to the resources of the services and checks all points again if one of them is
+ * unloaded.
+ */
+public final class OrphanedServiceInstrumentationPoints extends ServiceInstrumentationPointAdapter {
+	private final Set<ServiceInstrumentationPoint> orphanedPoints = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private OrphanedServiceInstrumentationPoints(InstrumentationModel im) {
+		super(im);
+		attach();
+	}
+
+	/**
+	 * Returns the tracker for an InstrumentationModel. If the model has no tracker yet, it is created.
+	 *
+	 * @param im the InstrumentationModel.
+	 * @return the tracker.
+	 */
+	public static OrphanedServiceInstrumentationPoints getTracker(InstrumentationModel im) {
+		var tracker = EcoreUtil.getExistingAdapter(im, OrphanedServiceInstrumentationPoints.class);
+		if (tracker == null) {
+			tracker = new OrphanedServiceInstrumentationPoints(im);
+		}
+		return (OrphanedServiceInstrumentationPoints) tracker;
+	}
+
+	/**
+	 * Returns the ServiceInstrumentationPoints whose service is null or a proxy.
+	 *
+	 * @return a copy of the orphaned points so that they can be removed while iterating over them.
+	 */
+	public List<ServiceInstrumentationPoint> getOrphanedPoints() {
+		return new ArrayList<>(orphanedPoints);
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == OrphanedServiceInstrumentationPoints.class;
+	}
+
+	@Override
+	protected void pointAdded(ServiceInstrumentationPoint sip) {
+		checkPoint(sip);
+	}
+
+	@Override
+	protected void pointRemoved(ServiceInstrumentationPoint sip) {
+		orphanedPoints.remove(sip);
+	}
+
+	@Override
+	protected void serviceChanged(ServiceInstrumentationPoint sip) {
+		checkPoint(sip);
+	}
+
+	@Override
+	protected void otherChanged(Notification notification) {
+		if (notification.getNotifier() instanceof Resource
+				&& notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED
+				&& !notification.getNewBooleanValue()) {
+			for (var sip : getInstrumentationModel().getPoints()) {
+				checkPoint(sip);
+			}
+		}
+	}
+
+	private void checkPoint(ServiceInstrumentationPoint sip) {
+		if (sip.getService() == null || sip.getService().eIsProxy()) {
+			orphanedPoints.add(sip);
+		} else {
+			orphanedPoints.remove(sip);
+			Resource resource = sip.getService().eResource();
+			if (resource != null) {
+				observe(resource);
+			}
+		}
+	}
+}
@@ -1,5 +1,9 @@
 package cipm.consistency.cpr.util;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.eclipse.emf.ecore.EObject;
 import org.emftext.language.java.classifiers.ConcreteClassifier;
 import org.emftext.language.java.commons.Commentable;
@@ -19,6 +23,7 @@ import org.palladiosimulator.pcm.seff.ResourceDemandingInternalBehaviour;
 import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
 
 import tools.cipm.seff.extended.CommitIntegrationCodeToSeffFactory;
+import tools.cipm.seff.pojotransformations.code2seff.BasicComponentForPackageMappingFinder;
 import tools.cipm.seff.pojotransformations.code2seff.FunctionClassificationStrategyForPackageMapping;
 import tools.vitruv.framework.correspondence.CorrespondenceModel;
 
@@ -28,6 +33,11 @@ import tools.vitruv.framework.correspondence.CorrespondenceModel;
  * @author Martin Armbruster
  */
 public final class InternalUtils {
+	// Plain maps because the cached values reference their components. They are cleared by invalidateCaches().
+	private static final Map<BasicComponent, ClassificationCache> CLASSIFICATION_CACHES = new HashMap<>();
+	private static final Map<RepositoryComponent, Map<String, OperationRequiredRole>> REQUIRED_ROLE_INDICES =
+			new HashMap<>();
+	
 	private InternalUtils() {
 	}
 	
@@ -48,7 +58,10 @@ public final class InternalUtils {
 	}
 	
 	/**
-	 * Checks if a call to a method is an external call.
+	 * Checks if a call to a method is an external call. The classification strategy of a component and the
+	 * external calls are cached until {@link #invalidateCaches()} is called. A cached external call is only reused
+	 * while its target, i.e., the OperationSignature or BasicComponent, is contained in a model. Calls which are
+	 * not external are not cached because a target for them can be created later in the same propagation.
 	 * 
 	 * @param method the method to check.
 	 * @param cm the correspondence model.
@@ -56,19 +69,22 @@ public final class InternalUtils {
 	 * @return true if a call to the method is an external call.
 	 */
 	public static boolean isExternalCall(Method method, CorrespondenceModel cm, BasicComponent com) {
-		var factory = new CommitIntegrationCodeToSeffFactory();
-		class LocalStrategy extends FunctionClassificationStrategyForPackageMapping {
-			public LocalStrategy() {
-				super(factory.createBasicComponentFinding(), cm, com);
-			}
-
-			@Override
-			public boolean isExternalCall(Method call) {
-				return super.isExternalCall(call);
-			}
+		var cache = CLASSIFICATION_CACHES.get(com);
+		if (cache == null || cache.correspondenceModel != cm) {
+			cache = new ClassificationCache(cm, com);
+			CLASSIFICATION_CACHES.put(com, cache);
 		}
-		var strategy = new LocalStrategy();
-		return strategy.isExternalCall(method);
+		return cache.isExternalCall(method);
+	}
+	
+	/**
+	 * Invalidates the cached classifications of external calls, the cached RequiredRoles of components, and the
+	 * cached components of packages. This method is expected to be called at the end of every change propagation.
+	 */
+	public static void invalidateCaches() {
+		CLASSIFICATION_CACHES.clear();
+		REQUIRED_ROLE_INDICES.clear();
+		BasicComponentForPackageMappingFinder.invalidateCaches();
 	}
 	
 	/**
@@ -110,15 +126,28 @@ public final class InternalUtils {
 	 * @return the RequiredRole or null if it does not exist.
 	 */
 	public static OperationRequiredRole findRequiredRole(RepositoryComponent component, Interface interfaze) {
+		var index = REQUIRED_ROLE_INDICES.get(component);
+		if (index != null) {
+			var role = index.get(interfaze.getId());
+			if (role != null && role.getRequiringEntity_RequiredRole() == component
+					&& role.getRequiredInterface__OperationRequiredRole() == interfaze) {
+				return role;
+			}
+		}
+		// The index is missing or outdated because roles are added during the change propagation.
+		index = new HashMap<>();
 		for (var role : component.getRequiredRoles_InterfaceRequiringEntity()) {
 			if (role instanceof OperationRequiredRole) {
 				var opRole = (OperationRequiredRole) role;
-				if (opRole.getRequiredInterface__OperationRequiredRole() == interfaze) {
-					return opRole;
+				var requiredInterface = opRole.getRequiredInterface__OperationRequiredRole();
+				if (requiredInterface != null) {
+					index.putIfAbsent(requiredInterface.getId(), opRole);
 				}
 			}
 		}
-		return null;
+		REQUIRED_ROLE_INDICES.put(component, index);
+		var role = index.get(interfaze.getId());
+		return role != null && role.getRequiredInterface__OperationRequiredRole() == interfaze ? role : null;
 	}
 	
 	/**
@@ -141,4 +170,43 @@ public final class InternalUtils {
 		}
 		return null;
 	}
+	
+	/**
+	 * Caches the classification strategy of a component and the classifications of called methods.
+	 */
+	private static final class ClassificationCache {
+		private final CorrespondenceModel correspondenceModel;
+		private final LocalStrategy strategy;
+		private final Map<Method, EObject> externalCallTargets = new WeakHashMap<>();
+		
+		ClassificationCache(CorrespondenceModel cm, BasicComponent com) {
+			this.correspondenceModel = cm;
+			this.strategy = new LocalStrategy(new CommitIntegrationCodeToSeffFactory(), cm, com);
+		}
+		
+		boolean isExternalCall(Method method) {
+			var target = externalCallTargets.get(method);
+			if (target != null && target.eResource() != null) {
+				return true;
+			}
+			target = strategy.findExternalCallTarget(method);
+			if (target == null) {
+				externalCallTargets.remove(method);
+				return false;
+			}
+			externalCallTargets.put(method, target);
+			return true;
+		}
+	}
+	
+	private static final class LocalStrategy extends FunctionClassificationStrategyForPackageMapping {
+		LocalStrategy(CommitIntegrationCodeToSeffFactory factory, CorrespondenceModel cm, BasicComponent com) {
+			super(factory.createBasicComponentFinding(), cm, com);
+		}
+
+		@Override
+		public EObject findExternalCallTarget(Method call) {
+			return super.findExternalCallTarget(call);
+		}
+	}
 }
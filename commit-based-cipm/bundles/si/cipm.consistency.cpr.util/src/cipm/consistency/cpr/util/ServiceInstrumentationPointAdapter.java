@@ -0,0 +1,150 @@
+package cipm.consistency.cpr.util;
+
+import java.util.Collection;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationModel;
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationModelPackage;
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.ServiceInstrumentationPoint;
+
+/**
+ * Base class for adapters which keep data about the ServiceInstrumentationPoints of an InstrumentationModel up to
+ * date. The adapter is attached to the InstrumentationModel and its points. It reports added and removed points and
+ * points whose service changes to the subclass.
+ */
+public abstract class ServiceInstrumentationPointAdapter extends AdapterImpl {
+	private final InstrumentationModel im;
+
+	protected ServiceInstrumentationPointAdapter(InstrumentationModel im) {
+		this.im = im;
+	}
+
+	/**
+	 * Attaches the adapter to the InstrumentationModel and adds all of its points. It is expected to be called at the
+	 * end of the constructor of the subclass.
+	 */
+	protected void attach() {
+		im.eAdapters().add(this);
+		for (var sip : im.getPoints()) {
+			addPoint(sip);
+		}
+	}
+
+	protected InstrumentationModel getInstrumentationModel() {
+		return im;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.isTouch()) {
+			return;
+		}
+		if (notification.getNotifier() == im) {
+			if (notification.getFeature() != InstrumentationModelPackage.Literals.INSTRUMENTATION_MODEL__POINTS) {
+				return;
+			}
+			switch (notification.getEventType()) {
+				case Notification.ADD:
+					addPoint((ServiceInstrumentationPoint) notification.getNewValue());
+					break;
+				case Notification.ADD_MANY:
+					for (var sip : (Collection<?>) notification.getNewValue()) {
+						addPoint((ServiceInstrumentationPoint) sip);
+					}
+					break;
+				case Notification.REMOVE:
+					removePoint((ServiceInstrumentationPoint) notification.getOldValue());
+					break;
+				case Notification.REMOVE_MANY:
+					for (var sip : (Collection<?>) notification.getOldValue()) {
+						removePoint((ServiceInstrumentationPoint) sip);
+					}
+					break;
+				case Notification.SET:
+					removePoint((ServiceInstrumentationPoint) notification.getOldValue());
+					addPoint((ServiceInstrumentationPoint) notification.getNewValue());
+					break;
+				case Notification.MOVE:
+					pointsMoved();
+					break;
+				default:
+					break;
+			}
+		} else if (notification.getFeature()
+				== InstrumentationModelPackage.Literals.SERVICE_INSTRUMENTATION_POINT__SERVICE) {
+			serviceChanged((ServiceInstrumentationPoint) notification.getNotifier());
+		} else {
+			otherChanged(notification);
+		}
+	}
+
+	/**
+	 * Attaches the adapter to a point and reports it as added.
+	 *
+	 * @param sip the added point. It is ignored if it is null.
+	 */
+	protected void addPoint(ServiceInstrumentationPoint sip) {
+		if (sip == null) {
+			return;
+		}
+		observe(sip);
+		pointAdded(sip);
+	}
+
+	private void removePoint(ServiceInstrumentationPoint sip) {
+		if (sip == null) {
+			return;
+		}
+		sip.eAdapters().remove(this);
+		pointRemoved(sip);
+	}
+
+	/**
+	 * Attaches the adapter to a notifier if it is not attached yet.
+	 *
+	 * @param notifier the notifier.
+	 */
+	protected void observe(Notifier notifier) {
+		if (!notifier.eAdapters().contains(this)) {
+			notifier.eAdapters().add(this);
+		}
+	}
+
+	/**
+	 * Called after a point was added to the InstrumentationModel.
+	 *
+	 * @param sip the added point.
+	 */
+	protected abstract void pointAdded(ServiceInstrumentationPoint sip);
+
+	/**
+	 * Called after a point was removed from the InstrumentationModel.
+	 *
+	 * @param sip the removed point.
+	 */
+	protected abstract void pointRemoved(ServiceInstrumentationPoint sip);
+
+	/**
+	 * Called after the service of a point changed.
+	 *
+	 * @param sip the point.
+	 */
+	protected abstract void serviceChanged(ServiceInstrumentationPoint sip);
+
+	/**
+	 * Called after points were moved within the InstrumentationModel.
+	 */
+	protected void pointsMoved() {
+	}
+
+	/**
+	 * Called for notifications of other notifiers which the subclass observes.
+	 *
+	 * @param notification the notification.
+	 */
+	protected void otherChanged(Notification notification) {
+	}
+}
@@ -0,0 +1,122 @@
+package cipm.consistency.vsum;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.ActionInstrumentationPoint;
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationModel;
+import cipm.consistency.base.models.instrumentation.InstrumentationModel.InstrumentationModelPackage;
+
+/**
+ * Tracks the ActionInstrumentationPoints which are activated or added as active points, e.g., during a change
+ * propagation. Activations with an unchanged value are tracked as well.
+ */
+public class ActionInstrumentationPointActivationTracker extends EContentAdapter {
+	private final InstrumentationModel im;
+	private final Set<ActionInstrumentationPoint> activatedPoints = Collections
+			.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Creates a new instance and starts the tracking.
+	 *
+	 * @param im the instrumentation model to track.
+	 */
+	public ActionInstrumentationPointActivationTracker(InstrumentationModel im) {
+		this.im = im;
+		this.im.eAdapters().add(this);
+	}
+
+	/**
+	 * Stops the tracking.
+	 */
+	public void dispose() {
+		this.im.eAdapters().remove(this);
+	}
+
+	/**
+	 * Returns the tracked ActionInstrumentationPoints which are still active and contained in the model.
+	 *
+	 * @return the activated points.
+	 */
+	public Set<ActionInstrumentationPoint> getActivatedPoints() {
+		activatedPoints.removeIf(aip -> !aip.isActive() || aip.eContainer() == null);
+		return activatedPoints;
+	}
+
+	/**
+	 * Deactivates all ActionInstrumentationPoints of the instrumentation model which were not activated while
+	 * tracking.
+	 *
+	 * @return true if at least one point was deactivated. false otherwise.
+	 */
+	public boolean deactivateOtherPoints() {
+		boolean modified = false;
+		for (var sip : im.getPoints()) {
+			for (var aip : sip.getActionInstrumentationPoints()) {
+				if (aip.isActive() && !activatedPoints.contains(aip)) {
+					aip.setActive(false);
+					modified = true;
+				}
+			}
+		}
+		return modified;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.getNotifier() instanceof ActionInstrumentationPoint
+				&& notification.getFeatureID(ActionInstrumentationPoint.class)
+					== InstrumentationModelPackage.ACTION_INSTRUMENTATION_POINT__ACTIVE) {
+			if (notification.getNewBooleanValue()) {
+				activatedPoints.add((ActionInstrumentationPoint) notification.getNotifier());
+			}
+			return;
+		}
+		if (!(notification.getFeature() instanceof EReference)
+				|| !((EReference) notification.getFeature()).isContainment()) {
+			return;
+		}
+		switch (notification.getEventType()) {
+			case Notification.ADD:
+			case Notification.SET:
+				addActivePoints(notification.getNewValue());
+				break;
+			case Notification.ADD_MANY:
+				for (var value : (Collection<?>) notification.getNewValue()) {
+					addActivePoints(value);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void addActivePoints(Object value) {
+		if (!(value instanceof EObject)) {
+			return;
+		}
+		var element = (EObject) value;
+		if (element instanceof ActionInstrumentationPoint && ((ActionInstrumentationPoint) element).isActive()) {
+			activatedPoints.add((ActionInstrumentationPoint) element);
+		}
+		for (var iter = element.eAllContents(); iter.hasNext();) {
+			var next = iter.next();
+			if (next instanceof ActionInstrumentationPoint && ((ActionInstrumentationPoint) next).isActive()) {
+				activatedPoints.add((ActionInstrumentationPoint) next);
+			}
+		}
+	}
+
+	@Override
+	protected boolean resolve() {
+		return false;
+	}
+}
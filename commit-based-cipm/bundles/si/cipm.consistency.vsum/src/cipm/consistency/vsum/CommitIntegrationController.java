@@ -20,12 +20,16 @@ import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.splevo.jamopp.diffing.JaMoPPDiffer;
+
+import com.google.common.cache.CacheStats;
 
 import cipm.consistency.commitintegration.CommitChangePropagator;
 import cipm.consistency.commitintegration.ExternalCommandExecutionUtils;
 import cipm.consistency.commitintegration.settings.CommitIntegrationSettingsContainer;
 import cipm.consistency.commitintegration.settings.SettingKeys;
 import cipm.consistency.cpr.javapcm.additional.validation.ExternalCallEmptyTargetFiller;
+import cipm.consistency.cpr.util.InternalUtils;
 import cipm.consistency.designtime.instrumentation2.CodeInstrumenter;
 import cipm.consistency.tools.evaluation.data.EvaluationDataContainer;
 import tools.vitruv.framework.propagation.ChangePropagationSpecification;
@@ -40,6 +44,7 @@ public class CommitIntegrationController {
 	private VSUMFacade facade;
 	private CommitChangePropagator prop;
 	private Resource instrumentedModel;
+	private boolean isStartupTimeReported;
 	
 	/**
 	 * Creates a new instance.
@@ -54,12 +59,20 @@ public class CommitIntegrationController {
 	public CommitIntegrationController(Path rootPath, String repositoryPath, Path settingsPath,
 			ChangePropagationSpecification javaPCMSpecification) throws IOException, GitAPIException {
 		CommitIntegrationSettingsContainer.initialize(settingsPath);
+		JaMoPPDiffer.setEqualityCacheStatisticsListener(CommitIntegrationController::addEqualityCacheStatistics);
 		facade = new VSUMFacade(rootPath, javaPCMSpecification);
 		prop = new CommitChangePropagator(repositoryPath,
 				facade.getFileLayout().getJavaPath().toString(), facade.getVSUM());
 		prop.initialize();
 	}
 	
+	private static void addEqualityCacheStatistics(CacheStats stats) {
+		var data = EvaluationDataContainer.getGlobalContainer().getEqualityCacheData();
+		data.setHitCount(data.getHitCount() + stats.hitCount());
+		data.setMissCount(data.getMissCount() + stats.missCount());
+		data.setEvictionCount(data.getEvictionCount() + stats.evictionCount());
+	}
+	
 	/**
 	 * Propagates the changes between two commits.
 	 * 
@@ -96,20 +109,36 @@ public class CommitIntegrationController {
 			writer.write(newCommit + "\n");
 		}
 		
+		// The startup time is only reported for the first propagation after the V-SUM was set up.
+		if (!isStartupTimeReported) {
+			EvaluationDataContainer.getGlobalContainer().getExecutionTimes()
+					.setStartupTime(this.facade.getStartupTime());
+			isStartupTimeReported = true;
+		}
+		
+		ModifiedResourceSaver.resetSaveData();
+		this.facade.trackModifications();
 		long overallTimer = System.currentTimeMillis();
 		instrumentedModel = null;
 		Path insDir = this.prop.getJavaFileSystemLayout().getInstrumentationCopy();
 		removeInstrumentationDirectory(insDir);
 		
-		// Deactivate all action instrumentation points.
-		this.facade.getInstrumentationModel().getPoints().forEach(sip -> 
-			sip.getActionInstrumentationPoints().forEach(aip -> aip.setActive(false)));
-		this.facade.getInstrumentationModel().eResource().save(null);
-		
 		long fineTimer = System.currentTimeMillis();
 		
 		// Propagate the changes.
-		boolean result = prop.propagateChanges(oldCommit, newCommit);
+		var aipTracker = new ActionInstrumentationPointActivationTracker(this.facade.getInstrumentationModel());
+		boolean result;
+		try {
+			result = prop.propagateChanges(oldCommit, newCommit);
+		} finally {
+			aipTracker.dispose();
+			InternalUtils.invalidateCaches();
+		}
+		
+		// Deactivate all action instrumentation points which were not activated during the propagation.
+		if (aipTracker.deactivateOtherPoints()) {
+			ModifiedResourceSaver.save(this.facade.getInstrumentationModel().eResource());
+		}
 		
 		fineTimer = System.currentTimeMillis() - fineTimer;
 		EvaluationDataContainer.getGlobalContainer().getExecutionTimes()
@@ -121,14 +150,11 @@ public class CommitIntegrationController {
 					facade.getVSUM().getCorrespondenceModel(),
 					facade.getPCMWrapper().getRepository(),
 					prop.getJavaFileSystemLayout().getExternalCallTargetPairsFile());
-			filler.fillExternalCalls();
-			
-			boolean hasChangedIM = false;
-			for (var sip : this.facade.getInstrumentationModel().getPoints()) {
-				for (var aip : sip.getActionInstrumentationPoints()) {
-					hasChangedIM |= aip.isActive();
-				}
+			if (filler.fillExternalCalls()) {
+				ModifiedResourceSaver.save(facade.getPCMWrapper().getRepository().eResource());
 			}
+			
+			boolean hasChangedIM = !aipTracker.getActivatedPoints().isEmpty();
 			if (!hasChangedIM) {
 				LOGGER.debug("No instrumentation points changed.");
 			}
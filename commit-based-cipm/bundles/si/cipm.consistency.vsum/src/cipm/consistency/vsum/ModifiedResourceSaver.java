@@ -0,0 +1,111 @@
+package cipm.consistency.vsum;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import org.apache.commons.io.output.CountingOutputStream;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+
+import cipm.consistency.tools.evaluation.data.EvaluationDataContainer;
+
+/**
+ * Saves resources only if they are modified. Resources with a file URI are written to a temporary file in the same
+ * directory, which afterward replaces the actual file by an atomic rename. Thus, a failing save does not leave a
+ * partially written model behind. Resources with other URIs are written directly to the output stream of their
+ * URIConverter.
+ *
+ * The number of saved resources and written bytes is recorded in the global evaluation data. It only covers the
+ * saves of this class. The V-SUM saves its models, e.g., the Java model, and the correspondence model itself. For
+ * these saves, the tracked resources are configured to be written only if their serialized content changed.
+ */
+final class ModifiedResourceSaver {
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	private ModifiedResourceSaver() {
+	}
+
+	/**
+	 * Enables the modification tracking of a resource so that it is only saved after a modification. If the
+	 * resource is saved by others, e.g., by the V-SUM, it is only written if its serialized content changed.
+	 *
+	 * @param resource the resource.
+	 */
+	static void trackModification(Resource resource) {
+		if (resource == null) {
+			return;
+		}
+		if (!resource.isTrackingModification()) {
+			resource.setTrackingModification(true);
+		}
+		if (resource instanceof ResourceImpl) {
+			((ResourceImpl) resource).getDefaultSaveOptions().putIfAbsent(Resource.OPTION_SAVE_ONLY_IF_CHANGED,
+					Resource.OPTION_SAVE_ONLY_IF_CHANGED_MEMORY_BUFFER);
+		}
+	}
+
+	/**
+	 * Resets the recorded number of saved resources and written bytes, e.g., before the changes of a new commit are
+	 * propagated.
+	 */
+	static void resetSaveData() {
+		var data = EvaluationDataContainer.getGlobalContainer().getResourceSaveData();
+		data.setNumberSavedResources(0);
+		data.setNumberWrittenBytes(0);
+	}
+
+	/**
+	 * Saves a resource if it is modified. Resources without an enabled modification tracking are always saved.
+	 *
+	 * @param resource the resource to save.
+	 * @return true if the resource was saved. false otherwise.
+	 * @throws IOException if the resource cannot be saved.
+	 */
+	static boolean save(Resource resource) throws IOException {
+		if (resource.isTrackingModification() && !resource.isModified()) {
+			return false;
+		}
+		long writtenBytes;
+		if (resource.getURI().isFile()) {
+			Path target = Paths.get(resource.getURI().toFileString()).toAbsolutePath();
+			Files.createDirectories(target.getParent());
+			Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), TEMP_FILE_SUFFIX);
+			try {
+				try (OutputStream out = Files.newOutputStream(temp)) {
+					resource.save(out, null);
+				}
+				writtenBytes = Files.size(temp);
+				move(temp, target);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} else {
+			URIConverter converter = resource.getResourceSet() == null ? URIConverter.INSTANCE
+					: resource.getResourceSet().getURIConverter();
+			try (CountingOutputStream out = new CountingOutputStream(
+					converter.createOutputStream(resource.getURI()))) {
+				resource.save(out, null);
+				writtenBytes = out.getByteCount();
+			}
+		}
+		resource.setModified(false);
+		var data = EvaluationDataContainer.getGlobalContainer().getResourceSaveData();
+		data.setNumberSavedResources(data.getNumberSavedResources() + 1);
+		data.setNumberWrittenBytes(data.getNumberWrittenBytes() + writtenBytes);
+		return true;
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package cipm.consistency.vsum;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -24,6 +25,7 @@ import cipm.consistency.base.shared.pcm.InMemoryPCM;
 import cipm.consistency.base.shared.pcm.LocalFilesystemPCM;
 import cipm.consistency.commitintegration.settings.CommitIntegrationSettingsContainer;
 import cipm.consistency.commitintegration.settings.SettingKeys;
+import cipm.consistency.cpr.util.InternalUtils;
 import tools.vitruv.domains.provider.im.InstrumentationModelDomainProvider;
 import tools.vitruv.domains.provider.java.AdjustedJavaDomainProvider;
 import cipm.consistency.domains.pcm.ExtendedPcmDomain;
@@ -47,6 +49,8 @@ public class VSUMFacade {
 	private LocalFilesystemPCM filePCM;
 	private InMemoryPCM pcm;
 	private InstrumentationModel imm;
+	private Resource correspondenceResource;
+	private long startupTime = -1;
 
 	public VSUMFacade(Path rootDir, ChangePropagationSpecification javaPCMSpecificaton) {
 		files = new FileLayout(rootDir);
@@ -54,6 +58,7 @@ public class VSUMFacade {
 	}
 	
 	private void setUp(ChangePropagationSpecification javaPCMSpecification) {
+		long startupTimer = System.currentTimeMillis();
 		boolean isVSUMExistent = Files.exists(files.getVsumPath());
 		ExtendedPcmDomain pcmDomain = new ExtendedPcmDomainProvider().getDomain();
 		pcmDomain.enableTransitiveChangePropagation();
@@ -70,54 +75,110 @@ public class VSUMFacade {
 			vsumBuilder = vsumBuilder.withChangePropagationSpecification(
 					new ImUpdateChangePropagationSpecification());
 		}
-		vsum = vsumBuilder.buildAndInitialize();
+		vsum = buildVirtualModel(vsumBuilder);
 		filePCM = new LocalFilesystemPCM();
 		filePCM.setRepositoryFile(files.getPcmRepositoryPath().toFile());
 		filePCM.setAllocationModelFile(files.getPcmAllocationPath().toFile());
 		filePCM.setSystemFile(files.getPcmSystemPath().toFile());
 		filePCM.setResourceEnvironmentFile(files.getPcmResourceEnvironmentPath().toFile());
 		filePCM.setUsageModelFile(files.getPcmUsageModelPath().toFile());
-		pcm = new InMemoryPCM();
-		if (isVSUMExistent) {
-			Resource resource = vsum.getModelInstance(files.getPcmRepositoryURI()).getResource();
-			pcm.setRepository((Repository) resource.getContents().get(0));
-			resource = vsum.getModelInstance(files.getPcmAllocationURI()).getResource();
-			pcm.setAllocationModel((Allocation) resource.getContents().get(0));
-			resource = vsum.getModelInstance(files.getPcmSystemURI()).getResource();
-			pcm.setSystem((org.palladiosimulator.pcm.system.System) resource.getContents().get(0));
-			resource = vsum.getModelInstance(files.getPcmResourceEnvironmentURI()).getResource();
-			pcm.setResourceEnvironmentModel((ResourceEnvironment) resource.getContents().get(0));
-			resource = vsum.getModelInstance(files.getPcmUsageModelURI()).getResource();
-			pcm.setUsageModel((UsageModel) resource.getContents().get(0));
-			resource = vsum.getModelInstance(files.getImURI()).getResource();
-			imm = (InstrumentationModel) resource.getContents().get(0);
-		} else {
-			pcm.setRepository(RepositoryFactory.eINSTANCE.createRepository());
-			pcm.setSystem(SystemFactory.eINSTANCE.createSystem());
-			pcm.setResourceEnvironmentModel(ResourceenvironmentFactory.eINSTANCE.createResourceEnvironment());
-			pcm.setAllocationModel(AllocationFactory.eINSTANCE.createAllocation());
-			pcm.getAllocationModel().setSystem_Allocation(pcm.getSystem());
-			pcm.getAllocationModel().setTargetResourceEnvironment_Allocation(pcm.getResourceEnvironmentModel());
-			pcm.setUsageModel(UsagemodelFactory.eINSTANCE.createUsageModel());
-			pcm.syncWithFilesystem(filePCM);
-			imm = InstrumentationModelFactory.eINSTANCE.createInstrumentationModel();
-			FileBackedModelUtil.synchronize(imm, files.getImPath().toFile(), InstrumentationModel.class);
-			vsum.propagateChangedState(imm.eResource());
-			vsum.propagateChangedState(pcm.getRepository().eResource());
-			vsum.propagateChangedState(pcm.getResourceEnvironmentModel().eResource());
-			vsum.propagateChangedState(pcm.getSystem().eResource());
-			vsum.propagateChangedState(pcm.getAllocationModel().eResource());
-			vsum.propagateChangedState(pcm.getUsageModel().eResource());
+		if (!isVSUMExistent) {
+			bootstrapModels();
+		}
+		loadModels();
+		if (!isVSUMExistent) {
 			ReactionsCorrespondenceHelper.addCorrespondence(vsum.getCorrespondenceModel(), pcm.getRepository(),
 					RepositoryPackage.Literals.REPOSITORY, null);
 			var correspondence = ReactionsCorrespondenceHelper.addCorrespondence(vsum.getCorrespondenceModel(), imm,
 					InstrumentationModelPackage.Literals.INSTRUMENTATION_MODEL, null);
+			correspondenceResource = correspondence.eResource();
 			try {
-				correspondence.eResource().save(null);
-				vsum.dispose();
+				ModifiedResourceSaver.save(correspondenceResource);
 			} catch (IOException e) {
+				throw new UncheckedIOException("The correspondences of the initial models cannot be saved.", e);
+			}
+		}
+		trackModifications();
+		startupTime = System.currentTimeMillis() - startupTimer;
+	}
+	
+	/**
+	 * Builds and initializes the V-SUM. It is called exactly once per instance, also if the V-SUM does not exist yet.
+	 * 
+	 * @param builder the builder configured with the domains and change propagation specifications.
+	 * @return the built V-SUM.
+	 */
+	protected InternalVirtualModel buildVirtualModel(VirtualModelBuilder builder) {
+		return builder.buildAndInitialize();
+	}
+	
+	/**
+	 * Creates the initial PCM models and the instrumentation model and registers them in the V-SUM. The caches of
+	 * the consistency preservation rules are invalidated afterwards.
+	 */
+	private void bootstrapModels() {
+		InMemoryPCM initialPCM = new InMemoryPCM();
+		initialPCM.setRepository(RepositoryFactory.eINSTANCE.createRepository());
+		initialPCM.setSystem(SystemFactory.eINSTANCE.createSystem());
+		initialPCM.setResourceEnvironmentModel(ResourceenvironmentFactory.eINSTANCE.createResourceEnvironment());
+		initialPCM.setAllocationModel(AllocationFactory.eINSTANCE.createAllocation());
+		initialPCM.getAllocationModel().setSystem_Allocation(initialPCM.getSystem());
+		initialPCM.getAllocationModel()
+				.setTargetResourceEnvironment_Allocation(initialPCM.getResourceEnvironmentModel());
+		initialPCM.setUsageModel(UsagemodelFactory.eINSTANCE.createUsageModel());
+		initialPCM.syncWithFilesystem(filePCM);
+		InstrumentationModel initialIM = InstrumentationModelFactory.eINSTANCE.createInstrumentationModel();
+		FileBackedModelUtil.synchronize(initialIM, files.getImPath().toFile(), InstrumentationModel.class);
+		try {
+			vsum.propagateChangedState(initialIM.eResource());
+			vsum.propagateChangedState(initialPCM.getRepository().eResource());
+			vsum.propagateChangedState(initialPCM.getResourceEnvironmentModel().eResource());
+			vsum.propagateChangedState(initialPCM.getSystem().eResource());
+			vsum.propagateChangedState(initialPCM.getAllocationModel().eResource());
+			vsum.propagateChangedState(initialPCM.getUsageModel().eResource());
+		} finally {
+			InternalUtils.invalidateCaches();
+		}
+	}
+	
+	/**
+	 * Loads the PCM models and the instrumentation model from the V-SUM.
+	 */
+	private void loadModels() {
+		pcm = new InMemoryPCM();
+		Resource resource = vsum.getModelInstance(files.getPcmRepositoryURI()).getResource();
+		pcm.setRepository((Repository) resource.getContents().get(0));
+		resource = vsum.getModelInstance(files.getPcmAllocationURI()).getResource();
+		pcm.setAllocationModel((Allocation) resource.getContents().get(0));
+		resource = vsum.getModelInstance(files.getPcmSystemURI()).getResource();
+		pcm.setSystem((org.palladiosimulator.pcm.system.System) resource.getContents().get(0));
+		resource = vsum.getModelInstance(files.getPcmResourceEnvironmentURI()).getResource();
+		pcm.setResourceEnvironmentModel((ResourceEnvironment) resource.getContents().get(0));
+		resource = vsum.getModelInstance(files.getPcmUsageModelURI()).getResource();
+		pcm.setUsageModel((UsageModel) resource.getContents().get(0));
+		resource = vsum.getModelInstance(files.getImURI()).getResource();
+		imm = (InstrumentationModel) resource.getContents().get(0);
+	}
+	
+	/**
+	 * Enables the modification tracking of all resources of the V-SUM so that only modified resources are saved.
+	 * Besides the PCM and IM resources, these are all other resources in their resource set, e.g., the Java model
+	 * once it exists, and the correspondence resource if the models were bootstrapped by this facade. Thus, it is
+	 * called again before the changes of a commit are propagated.
+	 */
+	void trackModifications() {
+		ModifiedResourceSaver.trackModification(pcm.getRepository().eResource());
+		ModifiedResourceSaver.trackModification(pcm.getAllocationModel().eResource());
+		ModifiedResourceSaver.trackModification(pcm.getSystem().eResource());
+		ModifiedResourceSaver.trackModification(pcm.getResourceEnvironmentModel().eResource());
+		ModifiedResourceSaver.trackModification(pcm.getUsageModel().eResource());
+		ModifiedResourceSaver.trackModification(imm.eResource());
+		ModifiedResourceSaver.trackModification(correspondenceResource);
+		var resourceSet = pcm.getRepository().eResource().getResourceSet();
+		if (resourceSet != null) {
+			for (Resource resource : resourceSet.getResources()) {
+				ModifiedResourceSaver.trackModification(resource);
 			}
-			setUp(javaPCMSpecification);
 		}
 	}
 	
@@ -136,4 +197,13 @@ public class VSUMFacade {
 	public InMemoryPCM getPCMWrapper() {
 		return pcm;
 	}
+	
+	/**
+	 * Returns the time needed to build and initialize the V-SUM including the loading or creation of the models.
+	 * 
+	 * @return the startup time in milliseconds.
+	 */
+	public long getStartupTime() {
+		return startupTime;
+	}
 }
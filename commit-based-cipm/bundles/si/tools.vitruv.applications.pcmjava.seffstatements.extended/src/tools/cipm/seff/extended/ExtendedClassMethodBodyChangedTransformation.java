@@ -19,7 +19,6 @@ import com.google.common.collect.Lists;
 import tools.cipm.seff.BasicComponentFinding;
 import tools.cipm.seff.ClassMethodBodyChangedTransformation;
 import tools.vitruv.framework.correspondence.CorrespondenceModel;
-import tools.vitruv.framework.userinteraction.UserInteractor;
 
 /**
  * Class that keeps changes within a class method body consistent with the
@@ -62,9 +61,8 @@ public class ExtendedClassMethodBodyChangedTransformation extends ClassMethodBod
 	 * during the instrumentation process.
 	 */
 	@Override
-	public void execute(final CorrespondenceModel correspondenceModel,
-			final UserInteractor userInteracting) {
-		super.execute(correspondenceModel, userInteracting);
+	protected void updateCorrespondences(final CorrespondenceModel correspondenceModel) {
+		super.updateCorrespondences(correspondenceModel);
 		var decorator = super.getSourceCodeDecoratorRepository();
 		if (decorator != null) {
 			// 5) Link the abstract actions with their corresponding statements.
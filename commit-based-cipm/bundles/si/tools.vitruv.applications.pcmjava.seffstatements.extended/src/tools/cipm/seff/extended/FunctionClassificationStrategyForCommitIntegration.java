@@ -1,6 +1,9 @@
 package tools.cipm.seff.extended;
 
-import org.emftext.language.java.LogicalJavaURIGenerator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.emftext.language.java.containers.CompilationUnit;
 import org.emftext.language.java.members.Method;
 import org.palladiosimulator.pcm.repository.BasicComponent;
 
@@ -17,6 +20,9 @@ import tools.vitruv.framework.correspondence.CorrespondenceModel;
  */
 public class FunctionClassificationStrategyForCommitIntegration
 		extends FunctionClassificationStrategyForPackageMapping {
+	private static volatile RestClientPackages restClientPackages;
+
+	private final Map<Method, Boolean> classifications = new HashMap<>();
 
 	public FunctionClassificationStrategyForCommitIntegration(BasicComponentFinding basicComponentFinding,
 			CorrespondenceModel ci, BasicComponent myBasicComponent) {
@@ -27,33 +33,59 @@ public class FunctionClassificationStrategyForCommitIntegration
 	 * Classifies external calls according to the superclass. In addition, methods
 	 * in specific packages which contain REST client APIs are considered as
 	 * external calls.
+	 * 
+	 * The classification is cached for every method. As a strategy is created for
+	 * every propagation, the cache is only kept during one propagation.
 	 */
 	@Override
 	protected boolean isExternalCall(Method method) {
-		boolean superResult = super.isExternalCall(method);
-		
-		if (!superResult) {
-			String[] packages = CommitIntegrationSettingsContainer.getSettingsContainer()
-					.getProperty(SettingKeys.REST_CLIENT_API_PACKAGES).split(";");
-			
-			String namespaces = method.getContainingCompilationUnit().getNamespacesAsString();
-			if (namespaces == null || namespaces.isBlank()) {
-				return false;
-			}
-			
-			if (namespaces.endsWith(LogicalJavaURIGenerator.CLASSIFIER_SEPARATOR)
-					|| namespaces.endsWith(LogicalJavaURIGenerator.PACKAGE_SEPARATOR)) {
-				namespaces = namespaces.substring(0, namespaces.length() - 1);
-			}
-			
-			for (String p : packages) {
-				if (p.equals(namespaces)) {
-					return true;
-				}
-			}
-			
-			return false;
+		Boolean result = classifications.get(method);
+		if (result == null) {
+			result = super.isExternalCall(method) || isRestClientCall(method);
+			classifications.put(method, result);
+		}
+		return result;
+	}
+	
+	/**
+	 * Checks whether a method is contained in one of the configured REST client API packages. Only the packages
+	 * themselves are matched, not their sub-packages, because the configured packages name the client APIs exactly.
+	 */
+	private boolean isRestClientCall(Method method) {
+		PackageTrie packages = getRestClientPackages();
+		CompilationUnit cu = method.getContainingCompilationUnit();
+		return packages != null && cu != null && packages.contains(cu.getNamespaces());
+	}
+
+	/**
+	 * Returns the trie of the configured REST client API packages. It is built once and rebuilt only if the
+	 * settings change.
+	 * 
+	 * @return the trie or null if no package is configured.
+	 */
+	private static PackageTrie getRestClientPackages() {
+		int generation = CommitIntegrationSettingsContainer.getGeneration();
+		RestClientPackages packages = restClientPackages;
+		if (packages == null || packages.generation != generation) {
+			var packageNames = CommitIntegrationSettingsContainer.getSettingsContainer()
+					.getPropertyAsSet(SettingKeys.REST_CLIENT_API_PACKAGES);
+			packages = new RestClientPackages(generation,
+					packageNames.isEmpty() ? null : PackageTrie.create(packageNames));
+			restClientPackages = packages;
+		}
+		return packages.trie;
+	}
+
+	/**
+	 * The trie of the REST client API packages for one generation of the settings.
+	 */
+	private static final class RestClientPackages {
+		private final int generation;
+		private final PackageTrie trie;
+
+		RestClientPackages(int generation, PackageTrie trie) {
+			this.generation = generation;
+			this.trie = trie;
 		}
-		return superResult;
 	}
 }
@@ -0,0 +1,70 @@
+package tools.cipm.seff.extended;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable trie of package names whose nodes are the segments of the names. It checks whether the namespaces
+ * of a compilation unit name one of the packages without building the qualified name of the namespaces.
+ */
+final class PackageTrie {
+	private static final String SEGMENT_SEPARATOR = "\\.";
+
+	private final Map<String, PackageTrie> children;
+	private final boolean isPackage;
+
+	private PackageTrie(Collection<String[]> packages, int depth) {
+		boolean containsPackage = false;
+		Map<String, List<String[]>> packagesBySegment = new HashMap<>();
+		for (String[] segments : packages) {
+			if (segments.length == depth) {
+				containsPackage = true;
+			} else {
+				packagesBySegment.computeIfAbsent(segments[depth], k -> new ArrayList<>()).add(segments);
+			}
+		}
+		Map<String, PackageTrie> nodes = new HashMap<>();
+		packagesBySegment.forEach((segment, subPackages) -> nodes.put(segment, new PackageTrie(subPackages,
+				depth + 1)));
+		this.children = Map.copyOf(nodes);
+		this.isPackage = containsPackage;
+	}
+
+	/**
+	 * Creates a trie for package names.
+	 * 
+	 * @param packageNames the qualified package names. Their segments are separated by dots.
+	 * @return the created trie.
+	 */
+	static PackageTrie create(Collection<String> packageNames) {
+		List<String[]> packages = new ArrayList<>();
+		for (String packageName : packageNames) {
+			String[] segments = packageName.split(SEGMENT_SEPARATOR);
+			if (segments.length > 0 && !segments[0].isEmpty()) {
+				packages.add(segments);
+			}
+		}
+		return new PackageTrie(packages, 0);
+	}
+
+	/**
+	 * Checks whether namespaces name one of the packages of the trie. Sub-packages of the packages are not
+	 * contained.
+	 * 
+	 * @param namespaces the segments of the namespaces, e.g., of a compilation unit.
+	 * @return true if the namespaces are one of the packages. false otherwise.
+	 */
+	boolean contains(List<String> namespaces) {
+		PackageTrie node = this;
+		for (String segment : namespaces) {
+			node = node.children.get(segment);
+			if (node == null) {
+				return false;
+			}
+		}
+		return node.isPackage;
+	}
+}
@@ -1,12 +1,12 @@
 package tools.cipm.seff.finegrained;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.log4j.Logger;
 import org.emftext.language.java.members.Method;
 import org.emftext.language.java.statements.Statement;
 import org.palladiosimulator.pcm.repository.BasicComponent;
@@ -29,7 +29,6 @@ import tools.cipm.seff.BasicComponentFinding;
 import tools.cipm.seff.extended.ExtendedClassMethodBodyChangedTransformation;
 import tools.vitruv.framework.correspondence.CorrespondenceModel;
 import tools.vitruv.framework.correspondence.CorrespondenceModelUtil;
-import tools.vitruv.framework.userinteraction.UserInteractor;
 
 /**
  * Extends the incremental SEFF reconstruction by a fine-grained reconstruction
@@ -40,12 +39,12 @@ import tools.vitruv.framework.userinteraction.UserInteractor;
  * @author langhamm
  */
 public class FineGrainedClassMethodBodyChangedTransformation extends ExtendedClassMethodBodyChangedTransformation {
-	private static final Logger LOGGER = Logger
-			.getLogger(FineGrainedClassMethodBodyChangedTransformation.class.getSimpleName());
 	private final Method newMethod;
 	private final BasicComponentFinding basicComponentFinder;
 	private ResourceDemandingBehaviourDiff rdbDifference;
 	private final SimilarityChecker similarityChecker;
+	private ResourceDemandingBehaviour oldBehaviour;
+	private ResourceDemandingBehaviour newBehaviour;
 
 	public FineGrainedClassMethodBodyChangedTransformation(final Method newMethod,
 			final BasicComponentFinding basicComponentFinder,
@@ -60,34 +59,37 @@ public class FineGrainedClassMethodBodyChangedTransformation extends ExtendedCla
 	}
 
 	/**
-	 * This method is called after a Java method body has been changed. It
-	 * reconstructs the new method and merges the differences into a possible
-	 * existing SEFF.
+	 * Instead of removing the old elements, the old ResourceDemandingBehaviour is kept. After the new method has
+	 * been reconstructed, the differences are merged into the old ResourceDemandingBehaviour.
 	 */
 	@Override
-	public void execute(final CorrespondenceModel correspondenceModel, final UserInteractor userInteracting) {
-		if (!this.isArchitectureRelevantChange(correspondenceModel)) {
-			LOGGER.debug("Change within the method " + this.newMethod + " is not an architecture-relevant change.");
-			return;
-		}
-
+	protected void removeOldBehaviour(final CorrespondenceModel correspondenceModel) {
 		// 1) Get old ResourceDemandingBehaviour.
-		final ResourceDemandingBehaviour oldSEFF = this.findRdBehaviorToInsertElements(correspondenceModel);
+		this.oldBehaviour = this.findRdBehaviorToInsertElements(correspondenceModel);
+	}
 
+	@Override
+	protected void reconstructBehaviour(final CorrespondenceModel correspondenceModel) {
 		// 2) Create the new ResourceDemandingBehaviour.
-		final ResourceDemandingBehaviour newSEFF = this.createNewResourceDemandingBehaviour(correspondenceModel);
+		this.newBehaviour = this.createNewResourceDemandingBehaviour(correspondenceModel);
 
 		// 3) Calculate the difference between the old and new SEFF.
-		this.calculateResourceDemandingBehaviourDiff(oldSEFF, newSEFF, correspondenceModel);
+		this.calculateResourceDemandingBehaviourDiff(this.oldBehaviour, this.newBehaviour, correspondenceModel);
+	}
 
+	@Override
+	protected void connectBehaviour(final CorrespondenceModel correspondenceModel) {
 		// 4) Update the old ResourceDemandingBehaviour by merging the differences.
-		this.mergeDifferences(oldSEFF, newSEFF);
+		this.mergeDifferences(this.oldBehaviour, this.newBehaviour);
+	}
 
+	@Override
+	protected void updateCorrespondences(final CorrespondenceModel correspondenceModel) {
 		// 5) Create new correspondences between the SEFF elements and the method.
-		this.createNewCorrespondences(correspondenceModel, oldSEFF);
+		this.createNewCorrespondences(correspondenceModel, this.oldBehaviour);
 
 		// 6) Create correspondences between the SEFF elements and statements.
-		this.createCorrespondencesForAbstractActionsAndStatements(correspondenceModel, oldSEFF);
+		this.createCorrespondencesForAbstractActionsAndStatements(correspondenceModel, this.oldBehaviour);
 	}
 
 	private ResourceDemandingBehaviour createNewResourceDemandingBehaviour(
@@ -110,7 +112,7 @@ public class FineGrainedClassMethodBodyChangedTransformation extends ExtendedCla
 
 		// If the old SEFF is empty, all new AbstractActions are added.
 		if (listOldAbstractActions.size() == 0) {
-			rdbDifference.getAddedAbstractActions().addAll(listNewAbstractActions);
+			listNewAbstractActions.forEach(rdbDifference::addAddedAbstractAction);
 			return;
 		}
 
@@ -120,14 +122,14 @@ public class FineGrainedClassMethodBodyChangedTransformation extends ExtendedCla
 		// Find deleted AbstractActions.
 		for (AbstractAction oldAbstractAction : listOldAbstractActions) {
 			if (!rdbDifference.hasOldAbstractActionMatching(oldAbstractAction)) {
-				rdbDifference.getDeletedAbstractActions().add(oldAbstractAction);
+				rdbDifference.addDeletedAbstractAction(oldAbstractAction);
 			}
 		}
 
 		// Find added AbstractActions.
 		for (AbstractAction newAbstractAction : listNewAbstractActions) {
 			if (!rdbDifference.hasNewAbstractActionMatching(newAbstractAction)) {
-				rdbDifference.getAddedAbstractActions().add(newAbstractAction);
+				rdbDifference.addAddedAbstractAction(newAbstractAction);
 			}
 		}
 	}
@@ -142,39 +144,125 @@ public class FineGrainedClassMethodBodyChangedTransformation extends ExtendedCla
 		return listAbstractActions;
 	}
 
+	/**
+	 * Matches the new and old AbstractActions. At first, the top-level actions of both SEFFs are aligned by
+	 * computing the longest common subsequence of their structural signatures. Every aligned pair is confirmed by
+	 * the similarity check. Afterward, all remaining new actions are compared with the remaining old actions.
+	 * 
+	 * @param oldSEFF the old SEFF.
+	 * @param newSEFF the new SEFF.
+	 * @param ci the correspondence model.
+	 */
 	private void matchNewAndOldSeff(ResourceDemandingBehaviour oldSEFF, ResourceDemandingBehaviour newSEFF,
 			CorrespondenceModel ci) {
+		StatementSignatures signatures = new StatementSignatures();
+
+		// Get corresponding statements for old AbstractActions.
+		Map<AbstractAction, Set<Statement>> oldStatements = new LinkedHashMap<>();
+		for (AbstractAction oldAbstractAction : this.getRelevantAbstractActions(oldSEFF)) {
+			Set<Statement> statements = CorrespondenceModelUtil.getCorrespondingEObjects(ci, oldAbstractAction,
+					Statement.class);
+			oldStatements.put(oldAbstractAction, statements == null ? Set.of() : statements);
+		}
+		Map<AbstractAction, List<Statement>> newStatements = this.getNewSeffElementStatements(newSEFF);
 
-		List<AbstractAction> oldAbstractActions = this.getRelevantAbstractActions(oldSEFF);
-		Map<AbstractAction, List<Statement>> newSeffStatements = this.getNewSeffElementStatements(newSEFF);
-
-		for (Map.Entry<AbstractAction, List<Statement>> entry : newSeffStatements.entrySet()) {
-			AbstractAction newAbstractAction = entry.getKey();
-			List<Statement> newAbstractActionStatements = entry.getValue();
-
-			for (AbstractAction oldAbstractAction : oldAbstractActions) {
-				// Get corresponding statements for old AbstractAction.
-				Set<Statement> oldAbstractActionStatements = CorrespondenceModelUtil.getCorrespondingEObjects(ci,
-						oldAbstractAction, Statement.class);
+		List<AbstractAction> oldSequence = new ArrayList<>(oldStatements.keySet());
+		List<AbstractAction> newSequence = new ArrayList<>();
+		for (AbstractAction newAbstractAction : this.getRelevantAbstractActions(newSEFF)) {
+			if (newStatements.containsKey(newAbstractAction)) {
+				newSequence.add(newAbstractAction);
+			}
+		}
+		long[] oldKeys = new long[oldSequence.size()];
+		for (int i = 0; i < oldKeys.length; i++) {
+			AbstractAction action = oldSequence.get(i);
+			oldKeys[i] = signatures.getActionSignature(action, oldStatements.get(action));
+		}
+		long[] newKeys = new long[newSequence.size()];
+		for (int i = 0; i < newKeys.length; i++) {
+			AbstractAction action = newSequence.get(i);
+			newKeys[i] = signatures.getActionSignature(action, newStatements.get(action));
+		}
 
-				int similarStatementsCount = this.compareAbstractActions(newAbstractAction, oldAbstractAction,
-						newAbstractActionStatements, oldAbstractActionStatements);
+		Set<AbstractAction> remainingOldActions = new LinkedHashSet<>(oldSequence);
+		Set<AbstractAction> remainingNewActions = new LinkedHashSet<>(newStatements.keySet());
+		int[][] lcs = computeLongestCommonSubsequence(newKeys, oldKeys);
+		int newIndex = 0;
+		int oldIndex = 0;
+		while (newIndex < newKeys.length && oldIndex < oldKeys.length) {
+			if (newKeys[newIndex] == oldKeys[oldIndex]) {
+				AbstractAction newAbstractAction = newSequence.get(newIndex);
+				AbstractAction oldAbstractAction = oldSequence.get(oldIndex);
+				if (this.addMatching(newAbstractAction, oldAbstractAction, newStatements.get(newAbstractAction),
+						oldStatements.get(oldAbstractAction))) {
+					remainingNewActions.remove(newAbstractAction);
+					remainingOldActions.remove(oldAbstractAction);
+				}
+				newIndex++;
+				oldIndex++;
+			} else if (lcs[newIndex + 1][oldIndex] >= lcs[newIndex][oldIndex + 1]) {
+				newIndex++;
+			} else {
+				oldIndex++;
+			}
+		}
 
-				if (newAbstractActionStatements.size() == similarStatementsCount) {
-					rdbDifference.getUnmodifiedAbstractActions()
-							.add(new AbstractActionMatching(newAbstractAction, oldAbstractAction));
-					break;
-				} else if (similarStatementsCount != 0) {
-					rdbDifference.getModifiedAbstractActions()
-							.add(new AbstractActionMatching(newAbstractAction, oldAbstractAction));
+		// Compare the remaining AbstractActions with the similarity check.
+		for (AbstractAction newAbstractAction : remainingNewActions) {
+			for (AbstractAction oldAbstractAction : remainingOldActions) {
+				if (this.addMatching(newAbstractAction, oldAbstractAction, newStatements.get(newAbstractAction),
+						oldStatements.get(oldAbstractAction))) {
+					remainingOldActions.remove(oldAbstractAction);
 					break;
 				}
 			}
 		}
 	}
 
+	/**
+	 * Computes the lengths of the longest common subsequences of all suffixes of two sequences.
+	 * 
+	 * @param first the first sequence.
+	 * @param second the second sequence.
+	 * @return a table in which the entry [i][j] contains the length of the longest common subsequence of the suffixes
+	 *         starting at i in the first sequence and at j in the second sequence.
+	 */
+	private static int[][] computeLongestCommonSubsequence(long[] first, long[] second) {
+		int[][] lcs = new int[first.length + 1][second.length + 1];
+		for (int i = first.length - 1; i >= 0; i--) {
+			for (int j = second.length - 1; j >= 0; j--) {
+				if (first[i] == second[j]) {
+					lcs[i][j] = lcs[i + 1][j + 1] + 1;
+				} else {
+					lcs[i][j] = Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+				}
+			}
+		}
+		return lcs;
+	}
+
+	/**
+	 * Compares a new and an old AbstractAction and adds a matching for them if they are similar.
+	 * 
+	 * @return true if a matching has been added. false otherwise.
+	 */
+	private boolean addMatching(AbstractAction newAbstractAction, AbstractAction oldAbstractAction,
+			List<Statement> newAbstractActionStatements, Set<Statement> oldAbstractActionStatements) {
+		int similarStatementsCount = this.compareAbstractActions(newAbstractAction, oldAbstractAction,
+				newAbstractActionStatements, oldAbstractActionStatements);
+
+		if (newAbstractActionStatements.size() == similarStatementsCount) {
+			rdbDifference.addUnmodifiedMatching(newAbstractAction, oldAbstractAction);
+			return true;
+		} else if (similarStatementsCount != 0) {
+			rdbDifference.addModifiedMatching(newAbstractAction, oldAbstractAction);
+			return true;
+		}
+		return false;
+	}
+
 	private Map<AbstractAction, List<Statement>> getNewSeffElementStatements(ResourceDemandingBehaviour newSEFF) {
-		Map<AbstractAction, List<Statement>> newSeffStatements = new HashMap<>();
+		Map<AbstractAction, List<Statement>> newSeffStatements = new LinkedHashMap<>();
 		List<SeffElementSourceCodeLink> seffStatementLinks = this.getSourceCodeDecoratorRepository()
 				.getSeffElementsSourceCodeLinks();
 		for (SeffElementSourceCodeLink seffStatementLink : seffStatementLinks) {
@@ -205,7 +293,7 @@ public class FineGrainedClassMethodBodyChangedTransformation extends ExtendedCla
 		int similarStatementsCount = 0;
 		for (Statement newStatement : newStatements) {
 			for (Statement oldStatement : oldStatements) {
-				if (this.similarityChecker.isSimilar(newStatement, oldStatement)) {
+				if (Boolean.TRUE.equals(this.similarityChecker.isSimilar(newStatement, oldStatement))) {
 					similarStatementsCount++;
 				}
 			}
@@ -225,69 +313,13 @@ public class FineGrainedClassMethodBodyChangedTransformation extends ExtendedCla
 			rdBehavior.getSteps_Behaviour().add(SeffFactory.eINSTANCE.createStopAction());
 		}
 
-		this.removeOldAbstractActions(steps);
-
-		this.addNewAbstractActions(steps, newSeff);
-
-		this.addChangedAbstractActions(steps, newSeff);
+		rdbDifference.mergeSteps(steps, newSeff.getSteps_Behaviour());
 
 		VisitorUtils.connectActions(rdBehavior);
 
 		this.updateResourceDemandingInternalBehaviours(rdBehavior);
 	}
 
-	private void removeOldAbstractActions(List<AbstractAction> steps) {
-		for (var action : rdbDifference.getDeletedAbstractActions()) {
-			steps.remove(action);
-		}
-	}
-
-	private void addNewAbstractActions(List<AbstractAction> steps, ResourceDemandingBehaviour newSeff) {
-		List<AbstractAction> newSeffAbstractActions = new ArrayList<>(newSeff.getSteps_Behaviour());
-		AbstractAction newAbstractActionPredecessor = null;
-		for (AbstractAction newAbstractAction : newSeffAbstractActions) {
-			if (!rdbDifference.hasNewAbstractActionMatching(newAbstractAction)) {
-				if (newAbstractActionPredecessor == null) {
-					// Case 1: the current element in the new SEFF has no matching and has no
-					// predecessor.
-					// ==> Add the element at the first position of the old SEFF.
-					steps.add(1, newAbstractAction);
-				} else {
-					AbstractActionMatching predecessorMatching = rdbDifference
-							.getNewAbstractActionMatching(newAbstractActionPredecessor);
-					if (predecessorMatching != null) {
-						// Case 2: the predecessor of the current element in the new SEFF has a matching
-						// in the old SEFF.
-						// ==> Use this matching of the predecessor to find a position for the current
-						// element in the old SEFF.
-						int predecessorMatchingLocation = steps.indexOf(
-								predecessorMatching.getOldAbstractAction());
-						steps.add(predecessorMatchingLocation + 1, newAbstractAction);
-					} else {
-						// Case 3: the predecessor of the current element has no matching in the old
-						// SEFF.
-						// ==> Use the predecessor as the predecessor in the old SEFF because the
-						// predecessor
-						// has already been added to the old SEFF in a previous iteration of this loop.
-						int predecessorOldSeffLocation = steps.indexOf(newAbstractActionPredecessor);
-						steps.add(predecessorOldSeffLocation + 1, newAbstractAction);
-					}
-				}
-			}
-			newAbstractActionPredecessor = newAbstractAction;
-		}
-	}
-
-	private void addChangedAbstractActions(List<AbstractAction> oldActions, ResourceDemandingBehaviour newSeff) {
-		for (AbstractAction newAction : newSeff.getSteps_Behaviour()) {
-			var matching = rdbDifference.getNewAbstractActionMatching(newAction);
-			if (matching != null && rdbDifference.getModifiedAbstractActions().contains(matching)) {
-				int oldIndex = oldActions.indexOf(matching.getOldAbstractAction());
-				oldActions.set(oldIndex, newAction);
-			}
-		}
-	}
-
 	private void createCorrespondencesForAbstractActionsAndStatements(CorrespondenceModel correspondenceModel,
 			ResourceDemandingBehaviour oldSeff) {
 		List<SeffElementSourceCodeLink> seffElementSourceCodeLinks = this.getSourceCodeDecoratorRepository()
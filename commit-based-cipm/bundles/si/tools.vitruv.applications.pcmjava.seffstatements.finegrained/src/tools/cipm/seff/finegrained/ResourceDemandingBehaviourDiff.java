@@ -1,13 +1,19 @@
 package tools.cipm.seff.finegrained;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.palladiosimulator.pcm.seff.AbstractAction;
 
 /**
  * Describes the difference of two ResourceDemandingBehaviours regarding their contained actions.
  * 
+ * The matchings are indexed by their new and old actions so that they can be looked up in constant time.
+ * 
  * @author Noureddine Dahmane
  * @author Martin Armbruster
  */
@@ -16,69 +22,149 @@ public class ResourceDemandingBehaviourDiff {
 	private List<AbstractAction> addedAbstractActions;
 	private List<AbstractActionMatching> modifiedAbstractActions;
 	private List<AbstractActionMatching> unmodifiedAbstractActions;
+	private Map<AbstractAction, AbstractActionMatching> newActionMatchings;
+	private Map<AbstractAction, AbstractActionMatching> oldActionMatchings;
+	private Set<AbstractActionMatching> modifiedMatchings;
+	private Set<AbstractAction> deletedActions;
 	
 	public ResourceDemandingBehaviourDiff() {
 		deletedAbstractActions =  new ArrayList<>();
 		addedAbstractActions = new ArrayList<>();
 		modifiedAbstractActions = new ArrayList<>();
 		unmodifiedAbstractActions = new ArrayList<>();
+		newActionMatchings = new IdentityHashMap<>();
+		oldActionMatchings = new IdentityHashMap<>();
+		modifiedMatchings = Collections.newSetFromMap(new IdentityHashMap<>());
+		deletedActions = Collections.newSetFromMap(new IdentityHashMap<>());
 	}
 
+	/**
+	 * Returns the deleted actions. Use {@link #addDeletedAbstractAction(AbstractAction)} to add actions.
+	 * 
+	 * @return an unmodifiable view on the deleted actions.
+	 */
 	public List<AbstractAction> getDeletedAbstractActions() {
-		return deletedAbstractActions;
+		return Collections.unmodifiableList(deletedAbstractActions);
 	}
 
+	/**
+	 * Returns the added actions. Use {@link #addAddedAbstractAction(AbstractAction)} to add actions.
+	 * 
+	 * @return an unmodifiable view on the added actions.
+	 */
 	public List<AbstractAction> getAddedAbstractActions() {
-		return addedAbstractActions;
+		return Collections.unmodifiableList(addedAbstractActions);
+	}
+	
+	public void addDeletedAbstractAction(AbstractAction oldAbstractAction) {
+		deletedAbstractActions.add(oldAbstractAction);
+		deletedActions.add(oldAbstractAction);
+	}
+	
+	public void addAddedAbstractAction(AbstractAction newAbstractAction) {
+		addedAbstractActions.add(newAbstractAction);
 	}
 
+	/**
+	 * Returns the matchings of modified actions. Use {@link #addModifiedMatching(AbstractAction, AbstractAction)} to
+	 * add matchings.
+	 * 
+	 * @return an unmodifiable view on the matchings.
+	 */
 	public List<AbstractActionMatching> getModifiedAbstractActions() {
-		return modifiedAbstractActions;
+		return Collections.unmodifiableList(modifiedAbstractActions);
 	}
 	
+	/**
+	 * Returns the matchings of unmodified actions. Use
+	 * {@link #addUnmodifiedMatching(AbstractAction, AbstractAction)} to add matchings.
+	 * 
+	 * @return an unmodifiable view on the matchings.
+	 */
 	public List<AbstractActionMatching> getUnmodifiedAbstractActions() {
-		return unmodifiedAbstractActions;
+		return Collections.unmodifiableList(unmodifiedAbstractActions);
+	}
+	
+	public AbstractActionMatching addModifiedMatching(AbstractAction newAbstractAction,
+			AbstractAction oldAbstractAction) {
+		AbstractActionMatching matching = addMatching(newAbstractAction, oldAbstractAction);
+		modifiedAbstractActions.add(matching);
+		modifiedMatchings.add(matching);
+		return matching;
+	}
+	
+	public AbstractActionMatching addUnmodifiedMatching(AbstractAction newAbstractAction,
+			AbstractAction oldAbstractAction) {
+		AbstractActionMatching matching = addMatching(newAbstractAction, oldAbstractAction);
+		unmodifiedAbstractActions.add(matching);
+		return matching;
+	}
+	
+	private AbstractActionMatching addMatching(AbstractAction newAbstractAction, AbstractAction oldAbstractAction) {
+		AbstractActionMatching matching = new AbstractActionMatching(newAbstractAction, oldAbstractAction);
+		newActionMatchings.putIfAbsent(newAbstractAction, matching);
+		oldActionMatchings.putIfAbsent(oldAbstractAction, matching);
+		return matching;
+	}
+	
+	public boolean isModified(AbstractActionMatching matching) {
+		return modifiedMatchings.contains(matching);
 	}
 	
 	public boolean hasOldAbstractActionMatching(AbstractAction oldAbstractAction) {
-		for (AbstractActionMatching matching : getModifiedAbstractActions()) {
-			if (oldAbstractAction == matching.getOldAbstractAction()) {
-				return true;
-			}
-		}
-		for (AbstractActionMatching matching : getUnmodifiedAbstractActions()) {
-			if (oldAbstractAction == matching.getOldAbstractAction()) {
-				return true;
-			}
-		}
-		return false;
+		return oldActionMatchings.containsKey(oldAbstractAction);
 	}
 	
 	public boolean hasNewAbstractActionMatching(AbstractAction newAbstractAction) {
-		for (AbstractActionMatching matching : getModifiedAbstractActions()) {
-			if (matching.getNewAbstractAction() == newAbstractAction) {
-				return true;
-			}
-		}
-		for (AbstractActionMatching matching : getUnmodifiedAbstractActions()) {
-			if (matching.getNewAbstractAction() == newAbstractAction) {
-				return true;
-			}
-		}
-		return false;
+		return newActionMatchings.containsKey(newAbstractAction);
 	}
 	
 	public AbstractActionMatching getNewAbstractActionMatching(AbstractAction newAction) {
-		for (var matching : getModifiedAbstractActions()) {
-			if (matching.getNewAbstractAction() == newAction) {
-				return matching;
+		return newActionMatchings.get(newAction);
+	}
+	
+	/**
+	 * Merges the differences into the steps of the old behaviour in a single pass over the old steps. Deleted actions
+	 * are removed, modified actions are replaced by their new version, and added actions are inserted after the old
+	 * action matched by their nearest matched predecessor in the new behaviour (or after the start action if there is
+	 * no such predecessor). The steps are edited by their index so that unchanged steps stay contained in the old
+	 * behaviour and only the actual edits are recorded.
+	 * 
+	 * @param oldSteps the steps of the old behaviour starting with a StartAction.
+	 * @param newSteps the steps of the new behaviour. Replacing and added actions are moved out of them.
+	 */
+	public void mergeSteps(List<AbstractAction> oldSteps, List<AbstractAction> newSteps) {
+		Map<AbstractAction, AbstractAction> replacements = new IdentityHashMap<>();
+		Map<AbstractAction, List<AbstractAction>> insertions = new IdentityHashMap<>();
+		AbstractAction anchor = oldSteps.get(0);
+		for (AbstractAction newAbstractAction : new ArrayList<>(newSteps)) {
+			AbstractActionMatching matching = getNewAbstractActionMatching(newAbstractAction);
+			if (matching == null) {
+				insertions.computeIfAbsent(anchor, a -> new ArrayList<>()).add(newAbstractAction);
+			} else {
+				anchor = matching.getOldAbstractAction();
+				if (isModified(matching)) {
+					replacements.put(anchor, newAbstractAction);
+				}
 			}
 		}
-		for (var matching : getUnmodifiedAbstractActions()) {
-			if (matching.getNewAbstractAction() == newAction) {
-				return matching;
+
+		int index = 0;
+		while (index < oldSteps.size()) {
+			AbstractAction oldAbstractAction = oldSteps.get(index);
+			if (deletedActions.contains(oldAbstractAction)) {
+				oldSteps.remove(index);
+				continue;
+			}
+			AbstractAction replacement = replacements.get(oldAbstractAction);
+			if (replacement != null) {
+				oldSteps.set(index, replacement);
+			}
+			index++;
+			for (AbstractAction addedAbstractAction : insertions.getOrDefault(oldAbstractAction, List.of())) {
+				oldSteps.add(index, addedAbstractAction);
+				index++;
 			}
 		}
-		return null;
 	}
 }
@@ -0,0 +1,99 @@
+package tools.cipm.seff.finegrained;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.emftext.language.java.commons.CommonsPackage;
+import org.emftext.language.java.commons.NamedElement;
+import org.emftext.language.java.statements.Statement;
+import org.palladiosimulator.pcm.seff.AbstractAction;
+
+/**
+ * Computes structural signatures of statements and of the AbstractActions representing them.
+ *
+ * A signature is a hash over the type, attribute values and contained elements of a statement. Referenced elements
+ * contribute only their name (or type) so that statements referring to replaced, but equally named elements, obtain
+ * the same signature. Layout information and the position of a statement are not considered. Thus, equal signatures
+ * indicate candidates for a matching, which still have to be confirmed by the similarity check.
+ *
+ * The signatures of statements are cached for the lifetime of an instance.
+ */
+class StatementSignatures {
+	private static final int PRIME = 31;
+	private final Map<EObject, Integer> cache = new IdentityHashMap<>();
+
+	/**
+	 * Computes the signature of an AbstractAction from its type and the signatures of its statements. The order of
+	 * the statements is not considered.
+	 *
+	 * @param action the AbstractAction.
+	 * @param statements the statements represented by the AbstractAction.
+	 * @return the signature.
+	 */
+	long getActionSignature(AbstractAction action, Collection<Statement> statements) {
+		long sum = 0;
+		for (Statement statement : statements) {
+			sum += getSignature(statement);
+		}
+		return ((long) action.eClass().hashCode() * PRIME + statements.size()) * PRIME + sum;
+	}
+
+	/**
+	 * Computes the signature of a single statement.
+	 *
+	 * @param statement the statement.
+	 * @return the signature.
+	 */
+	int getSignature(EObject statement) {
+		Integer signature = cache.get(statement);
+		if (signature == null) {
+			signature = computeSignature(statement);
+			cache.put(statement, signature);
+		}
+		return signature;
+	}
+
+	private int computeSignature(EObject element) {
+		int hash = element.eClass().hashCode();
+		for (EAttribute attribute : element.eClass().getEAllAttributes()) {
+			if (!attribute.isDerived() && !attribute.isTransient()) {
+				hash = PRIME * hash + Objects.hashCode(element.eGet(attribute));
+			}
+		}
+		for (EReference reference : element.eClass().getEAllReferences()) {
+			if (reference.isDerived() || reference.isTransient() || reference.isContainer()
+					|| reference == CommonsPackage.Literals.COMMENTABLE__LAYOUT_INFORMATIONS) {
+				continue;
+			}
+			Object value = element.eGet(reference, false);
+			if (reference.isMany()) {
+				for (Object target : (List<?>) value) {
+					hash = PRIME * hash + computeReferenceSignature(reference, (EObject) target);
+				}
+			} else if (value != null) {
+				hash = PRIME * hash + computeReferenceSignature(reference, (EObject) value);
+			}
+		}
+		return hash;
+	}
+
+	private int computeReferenceSignature(EReference reference, EObject target) {
+		if (reference.isContainment()) {
+			return computeSignature(target);
+		}
+		if (target.eIsProxy()) {
+			return ((InternalEObject) target).eProxyURI().hashCode();
+		}
+		if (target instanceof NamedElement) {
+			return Objects.hashCode(((NamedElement) target).getName());
+		}
+		return target.eClass().hashCode();
+	}
+}
@@ -1,15 +1,15 @@
 package tools.cipm.seff.pojotransformations.code2seff;
 
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.emftext.language.java.containers.CompilationUnit;
-import org.emftext.language.java.containers.ContainersFactory;
 import org.emftext.language.java.containers.JavaRoot;
 import org.emftext.language.java.containers.Package;
 import org.emftext.language.java.members.Method;
@@ -29,10 +29,20 @@ public class BasicComponentForPackageMappingFinder implements BasicComponentFind
 
     private static final Logger LOGGER = Logger.getLogger(BasicComponentForPackageMappingFinder.class.getSimpleName());
 
-    private final ResourceSet dummyResourceSet;
+    private static final String PACKAGE_INFO_FILE_NAME = "package-info.java";
 
-    public BasicComponentForPackageMappingFinder() {
-        this.dummyResourceSet = new ResourceSetImpl();
+    private static int cacheGeneration;
+
+    private final Map<URI, Optional<BasicComponent>> componentsByPackages = new HashMap<>();
+    private int usedCacheGeneration = cacheGeneration;
+
+    /**
+     * Invalidates the cached package-to-component lookups of all finders, including the packages
+     * without a component. This method is expected to be called at the end of every change
+     * propagation because it can create correspondences between packages and components.
+     */
+    public static void invalidateCaches() {
+        cacheGeneration++;
     }
 
     /**
@@ -48,51 +58,89 @@ public class BasicComponentForPackageMappingFinder implements BasicComponentFind
                     + " cause the compilation of the method is null");
             return null;
         }
-        final Package jaMoPPPackage = this.createPackage(cu, cu.getNamespaces());
-        final BasicComponent correspondingBc = this.findCorrespondingBasicComponentForPackage(jaMoPPPackage, ci);
+        final BasicComponent correspondingBc = this.findCorrespondingBasicComponentForNamespaces(
+                this.createPackageURI(cu), cu.getNamespaces().size(), cu.eResource().getResourceSet(), ci);
         if (null == correspondingBc) {
-            LOGGER.info("Could not find basic component for method " + newMethod + " in package " + jaMoPPPackage);
+            LOGGER.info("Could not find basic component for method " + newMethod + " in package "
+                    + cu.getNamespacesAsString());
         }
         return correspondingBc;
     }
 
-    private Package createPackage(final JavaRoot cu, final List<String> namespace) {
-        final Package jaMoPPPackage = ContainersFactory.eINSTANCE.createPackage();
-        jaMoPPPackage.getNamespaces().addAll(namespace);
-        // attach dummy resource in order to enable Tuid calculation
+    private URI createPackageURI(final JavaRoot cu) {
         final URI vuri = cu.eResource().getURI();
         String packageURIString = vuri.toString();
         final String lastSegment = vuri.lastSegment();
         if (packageURIString.endsWith(lastSegment)) {
             final int newLength = packageURIString.length() - lastSegment.length();
             packageURIString = packageURIString.substring(0, newLength);
-            packageURIString = packageURIString + "package-info.java";
+            packageURIString = packageURIString + PACKAGE_INFO_FILE_NAME;
         }
-        final URI packageVuri = URI.createURI(packageURIString);
-        final Resource dummyResource = this.dummyResourceSet.createResource(packageVuri);
-        dummyResource.getContents().add(jaMoPPPackage);
-        return jaMoPPPackage;
+        return URI.createURI(packageURIString);
     }
 
     /**
-     * Recursively finds the corresponding basic component for the package. Walks up the package
-     * hierarchy and returns the first matching basic component.
+     * Recursively finds the corresponding basic component for a package. Walks up the package
+     * hierarchy and returns the first matching basic component. The direct correspondences between
+     * packages and basic components, including their absence, are cached until
+     * {@link #invalidateCaches()} is called. A cached component is only reused while it is
+     * contained in a resource.
      *
-     * @param jaMoPPPackage the package model to investigate.
+     * @param packageVuri the URI of the package-info.java of the package. It distinguishes packages
+     *            with the same namespaces in different source folders.
+     * @param depth the number of namespaces of the package.
+     * @param resourceSet the resource set containing the Java model.
      * @param ci the current correspondence model.
      * @return the first matching basic component.
      */
-    private BasicComponent findCorrespondingBasicComponentForPackage(final Package jaMoPPPackage,
+    private BasicComponent findCorrespondingBasicComponentForNamespaces(final URI packageVuri, final int depth,
+            final ResourceSet resourceSet, final CorrespondenceModel ci) {
+        if (depth == 0) {
+            return null;
+        }
+        if (this.usedCacheGeneration != cacheGeneration) {
+            this.componentsByPackages.clear();
+            this.usedCacheGeneration = cacheGeneration;
+        }
+        Optional<BasicComponent> component = this.componentsByPackages.get(packageVuri);
+        if (null == component || (component.isPresent() && null == component.get().eResource())) {
+            component = Optional.ofNullable(this.queryBasicComponentForPackage(packageVuri, resourceSet, ci));
+            this.componentsByPackages.put(packageVuri, component);
+        }
+        if (component.isEmpty()) {
+            final URI parentPackageVuri = packageVuri.trimSegments(2).appendSegment(PACKAGE_INFO_FILE_NAME);
+            return this.findCorrespondingBasicComponentForNamespaces(parentPackageVuri, depth - 1, resourceSet, ci);
+        }
+        return component.get();
+    }
+
+    /**
+     * Queries the basic component which directly corresponds to a package. The package is looked up
+     * by its URI in the resource set of the Java model. Its resource is only loaded if the file exists,
+     * so that no resources are created for packages without a model.
+     *
+     * @param packageVuri the URI of the package-info.java of the package.
+     * @param resourceSet the resource set containing the Java model.
+     * @param ci the current correspondence model.
+     * @return the corresponding basic component or null if there is none.
+     */
+    private BasicComponent queryBasicComponentForPackage(final URI packageVuri, final ResourceSet resourceSet,
             final CorrespondenceModel ci) {
-        if (0 == jaMoPPPackage.getNamespaces().size()) {
+        if (null == resourceSet) {
+            return null;
+        }
+        Resource packageResource = resourceSet.getResource(packageVuri, false);
+        if (null == packageResource && resourceSet.getURIConverter().exists(packageVuri, null)) {
+            packageResource = resourceSet.getResource(packageVuri, true);
+        }
+        if (null == packageResource || packageResource.getContents().isEmpty()
+                || !(packageResource.getContents().get(0) instanceof Package)) {
             return null;
         }
         final Set<BasicComponent> correspondingComponents = CorrespondenceModelUtil
-                .getCorrespondingEObjects(ci, jaMoPPPackage, BasicComponent.class);
+                .getCorrespondingEObjects(ci, packageResource.getContents().get(0), BasicComponent.class);
         if (null == correspondingComponents || correspondingComponents.isEmpty()) {
-
-            jaMoPPPackage.getNamespaces().remove(jaMoPPPackage.getNamespaces().size() - 1);
-            return this.findCorrespondingBasicComponentForPackage(jaMoPPPackage, ci);
+            return null;
         }
         return correspondingComponents.iterator().next();
     }
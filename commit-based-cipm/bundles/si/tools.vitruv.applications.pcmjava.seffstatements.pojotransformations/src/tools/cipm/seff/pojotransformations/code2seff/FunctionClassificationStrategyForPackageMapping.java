@@ -3,6 +3,7 @@ package tools.cipm.seff.pojotransformations.code2seff;
 import java.util.Set;
 
 import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
 import org.emftext.language.java.members.ClassMethod;
 import org.emftext.language.java.members.Method;
 import org.palladiosimulator.pcm.repository.BasicComponent;
@@ -44,25 +45,37 @@ public class FunctionClassificationStrategyForPackageMapping extends AbstractFun
      */
     @Override
     protected boolean isExternalCall(final Method method) {
+        return null != this.findExternalCallTarget(method);
+    }
+
+    /**
+     * Finds the element which makes a call to a method an external call.
+     *
+     * @param method the called method.
+     * @return the OperationSignature corresponding to the method, the BasicComponent of the method
+     *         if it is another component than the own component, or null if a call to the method
+     *         is not an external call.
+     */
+    protected EObject findExternalCallTarget(final Method method) {
         if (!UriUtil.normalizeURI(method)) {
             LOGGER.info("Could not normalize URI for method " + method
                     + ". Method call is not considered as as external call");
-            return false;
+            return null;
         }
         final Set<OperationSignature> correspondingSignatures = CorrespondenceModelUtil
                 .getCorrespondingEObjects(this.correspondenceModel, method, OperationSignature.class);
         if (null != correspondingSignatures && !correspondingSignatures.isEmpty()) {
-            return true;
+            return correspondingSignatures.iterator().next();
         }
         if (method instanceof ClassMethod) {
             final BasicComponent basicComponent = this.basicComponentFinding.findBasicComponentForMethod(method,
                     this.correspondenceModel);
             if (null == basicComponent || basicComponent.getId().equals(this.myBasicComponent.getId())) {
-                return false;
+                return null;
             }
-            return true;
+            return basicComponent;
         }
-        return false;
+        return null;
     }
 
     /**
@@ -1,14 +1,23 @@
 package tools.cipm.seff.pojotransformations.code2seff;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.emftext.language.java.members.Method;
 import org.emftext.language.java.statements.Statement;
 import org.palladiosimulator.pcm.repository.BasicComponent;
 import org.palladiosimulator.pcm.repository.OperationInterface;
 import org.palladiosimulator.pcm.repository.OperationRequiredRole;
 import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.RepositoryPackage;
 import org.palladiosimulator.pcm.repository.RequiredRole;
 import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
 import org.somox.gast2seff.visitors.InterfaceOfExternalCallFinding;
@@ -29,6 +38,7 @@ public class InterfaceOfExternalCallFinderForPackageMapping implements Interface
 
     private final CorrespondenceModel correspondenceModel;
     private final BasicComponent myBasicComponent;
+    private final Map<Method, Optional<OperationSignature>> signaturesByMethod = new HashMap<>();
 
     public InterfaceOfExternalCallFinderForPackageMapping(final CorrespondenceModel correspondenceModel,
             final BasicComponent myBasicComponent) {
@@ -52,30 +62,50 @@ public class InterfaceOfExternalCallFinderForPackageMapping implements Interface
         if (null != opSig) {
             interfacePortOperationTuple.signature = opSig;
             final OperationInterface accessedOpIf = opSig.getInterface__OperationSignature();
-            for (final RequiredRole requiredRole : this.myBasicComponent.getRequiredRoles_InterfaceRequiringEntity()) {
-                if (requiredRole instanceof OperationRequiredRole) {
-                    final OperationRequiredRole orr = (OperationRequiredRole) requiredRole;
-                    if (orr.getRequiredInterface__OperationRequiredRole().getId().equals(accessedOpIf.getId())) {
-                        interfacePortOperationTuple.role = orr;
-                        break;
-                    }
-                }
-            }
+            interfacePortOperationTuple.role = this.findRequiredRole(accessedOpIf.getId());
         }
 
         return interfacePortOperationTuple;
     }
 
+    /**
+     * Finds the first required role of the component which requires the interface with the given
+     * id. The roles are looked up in the {@link RequiredRoleIndex} of the component, which also
+     * answers the ids of interfaces without a role.
+     *
+     * @param interfaceId id of the required interface.
+     * @return the required role or null if the component does not require the interface.
+     */
+    private OperationRequiredRole findRequiredRole(final String interfaceId) {
+        RequiredRoleIndex index = (RequiredRoleIndex) EcoreUtil.getExistingAdapter(this.myBasicComponent,
+                RequiredRoleIndex.class);
+        if (null == index) {
+            index = new RequiredRoleIndex();
+            this.myBasicComponent.eAdapters().add(index);
+        }
+        return index.getRequiredRole(this.myBasicComponent, interfaceId);
+    }
+
     /**
      * Returns the OperationSignature for the invoked method. If the invoked method directly
      * corresponds to an OperationSignature we are finished already. If the invoked method
      * corresponds to a SEFF (aka. it is a class method that implements an interface method, that
-     * corresponds to an operation signature) we can use the operation signature from the SEFF.
+     * corresponds to an operation signature) we can use the operation signature from the SEFF. The
+     * result is cached for every invoked method.
      *
      * @param invokedMethod the invoked method.
      * @return the corresponding OperationSignature.
      */
     private OperationSignature queryInterfaceOperation(final Method invokedMethod) {
+        Optional<OperationSignature> signature = this.signaturesByMethod.get(invokedMethod);
+        if (null == signature) {
+            signature = Optional.ofNullable(this.queryInterfaceOperationFromCorrespondences(invokedMethod));
+            this.signaturesByMethod.put(invokedMethod, signature);
+        }
+        return signature.orElse(null);
+    }
+
+    private OperationSignature queryInterfaceOperationFromCorrespondences(final Method invokedMethod) {
         final Set<OperationSignature> correspondingOpSigs = CorrespondenceModelUtil
                 .getCorrespondingEObjects(this.correspondenceModel, invokedMethod, OperationSignature.class);
         if (null != correspondingOpSigs && 0 < correspondingOpSigs.size()) {
@@ -94,4 +124,63 @@ public class InterfaceOfExternalCallFinderForPackageMapping implements Interface
         LOGGER.warn("Could not find operation signature for method " + invokedMethod);
         return null;
     }
+
+    /**
+     * Index of the required roles of a component by the ids of their interfaces. It is attached to
+     * the component and to its indexed roles. It is shared by all finders for the component and
+     * built on first use. If a role is added to or removed from the component, or if the interface
+     * of an indexed role changes, the index is discarded and rebuilt on the next lookup. The ids of
+     * the interfaces are expected not to change.
+     */
+    private static final class RequiredRoleIndex extends AdapterImpl {
+        private static final Object REQUIRED_ROLES = RepositoryPackage.Literals
+                .INTERFACE_REQUIRING_ENTITY__REQUIRED_ROLES_INTERFACE_REQUIRING_ENTITY;
+        private static final Object REQUIRED_INTERFACE = RepositoryPackage.Literals
+                .OPERATION_REQUIRED_ROLE__REQUIRED_INTERFACE_OPERATION_REQUIRED_ROLE;
+
+        private final List<OperationRequiredRole> observedRoles = new ArrayList<>();
+        private Map<String, OperationRequiredRole> rolesByInterfaceId;
+
+        @Override
+        public boolean isAdapterForType(final Object type) {
+            return type == RequiredRoleIndex.class;
+        }
+
+        @Override
+        public void notifyChanged(final Notification msg) {
+            if (msg.isTouch()) {
+                return;
+            }
+            final Object feature = msg.getFeature();
+            if (feature == REQUIRED_ROLES || feature == REQUIRED_INTERFACE) {
+                this.rolesByInterfaceId = null;
+            }
+        }
+
+        OperationRequiredRole getRequiredRole(final BasicComponent component, final String interfaceId) {
+            if (null == this.rolesByInterfaceId) {
+                this.rebuild(component);
+            }
+            return this.rolesByInterfaceId.get(interfaceId);
+        }
+
+        private void rebuild(final BasicComponent component) {
+            for (final OperationRequiredRole role : this.observedRoles) {
+                role.eAdapters().remove(this);
+            }
+            this.observedRoles.clear();
+            this.rolesByInterfaceId = new HashMap<>();
+            for (final RequiredRole requiredRole : component.getRequiredRoles_InterfaceRequiringEntity()) {
+                if (requiredRole instanceof OperationRequiredRole) {
+                    final OperationRequiredRole orr = (OperationRequiredRole) requiredRole;
+                    orr.eAdapters().add(this);
+                    this.observedRoles.add(orr);
+                    final OperationInterface requiredInterface = orr.getRequiredInterface__OperationRequiredRole();
+                    if (null != requiredInterface) {
+                        this.rolesByInterfaceId.putIfAbsent(requiredInterface.getId(), orr);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package tools.cipm.seff.pojotransformations.code2seff;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.palladiosimulator.pcm.repository.BasicComponent;
 import org.somox.gast2seff.visitors.AbstractFunctionClassificationStrategy;
 import org.somox.gast2seff.visitors.InterfaceOfExternalCallFinding;
@@ -22,10 +25,15 @@ public class PojoJava2PcmCodeToSeffFactory implements Code2SeffFactory {
 	public InterfaceOfExternalCallFindingFactory createInterfaceOfExternalCallFindingFactory(
 			final CorrespondenceModel correspondenceModel, final BasicComponent basicComponent) {
 		return new InterfaceOfExternalCallFindingFactory() {
+			// The finders do not depend on the source code decorator. Therefore, they are shared per component so
+			// that their caches are kept for all methods of a component.
+			private final Map<BasicComponent, InterfaceOfExternalCallFinding> finders = new HashMap<>();
+
 			public InterfaceOfExternalCallFinding createInterfaceOfExternalCallFinding(
 					SourceCodeDecoratorRepository sourceCodeDecoratorRepository,
 					BasicComponent basicComponent) {
-				return new InterfaceOfExternalCallFinderForPackageMapping(correspondenceModel, basicComponent);
+				return finders.computeIfAbsent(basicComponent,
+						com -> new InterfaceOfExternalCallFinderForPackageMapping(correspondenceModel, com));
 			}
 		};
 	}
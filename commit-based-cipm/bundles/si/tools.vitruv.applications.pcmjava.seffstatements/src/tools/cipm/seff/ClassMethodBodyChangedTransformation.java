@@ -1,5 +1,7 @@
 package tools.cipm.seff;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.log4j.Logger;
@@ -53,6 +55,8 @@ public class ClassMethodBodyChangedTransformation {
 	
 	private SourceCodeDecoratorRepository sourceCodeDecorator;
 
+	private ResourceDemandingBehaviour resourceDemandingBehaviour;
+
 	public ClassMethodBodyChangedTransformation(final Method newMethod,
 			final BasicComponentFinding basicComponentFinder,
 			final IFunctionClassificationStrategy iFunctionClassificationStrategy,
@@ -88,26 +92,97 @@ public class ClassMethodBodyChangedTransformation {
 	public void execute(final CorrespondenceModel correspondenceModel,
 			final UserInteractor userInteracting) {
 		if (!this.isArchitectureRelevantChange(correspondenceModel)) {
-			LOGGER.debug("Change within the method: " + this.newMethod
-					+ " is not an architecture relevant change");
+			LOGGER.debug("Change within the method: " + this.newMethod + " is not an architecture relevant change");
 			return;
 		}
-		
 		// 1)
-		this.removeCorrespondingAbstractActions(correspondenceModel);
+		this.removeOldBehaviour(correspondenceModel);
+		// 2)
+		this.reconstructBehaviour(correspondenceModel);
+		// 3)
+		this.connectBehaviour(correspondenceModel);
+		// 4)
+		this.updateCorrespondences(correspondenceModel);
+	}
 
+	/**
+	 * Executes multiple transformations as one batch. The transformations are expected to share the strategies
+	 * of one BasicComponent. Instead of executing all steps for one method after another, every step of
+	 * {@link #execute(CorrespondenceModel, UserInteractor)} is executed for all architecture relevant methods before
+	 * the next step starts. This is possible because the steps of a transformation only modify the behaviour of its
+	 * own method and only query the correspondences of its own method: the old actions are found by their
+	 * correspondences to the method, and the new actions only get correspondences to the method. Thus, the steps of
+	 * one transformation do not depend on the steps of the other transformations in the batch.
+	 * 
+	 * @param transformations the transformations to execute. Every method is expected to occur only once.
+	 * @param correspondenceModel the current correspondence model.
+	 */
+	public static void executeBatch(final List<? extends ClassMethodBodyChangedTransformation> transformations,
+			final CorrespondenceModel correspondenceModel) {
+		final List<ClassMethodBodyChangedTransformation> relevantTransformations = new ArrayList<>();
+		for (final ClassMethodBodyChangedTransformation transformation : transformations) {
+			if (transformation.isArchitectureRelevantChange(correspondenceModel)) {
+				relevantTransformations.add(transformation);
+			} else {
+				LOGGER.debug("Change within the method: " + transformation.newMethod
+						+ " is not an architecture relevant change");
+			}
+		}
+		// 1)
+		for (final ClassMethodBodyChangedTransformation transformation : relevantTransformations) {
+			transformation.removeOldBehaviour(correspondenceModel);
+		}
 		// 2)
-		final ResourceDemandingBehaviour resourceDemandingBehaviour = this
-				.findRdBehaviorToInsertElements(correspondenceModel);
+		for (final ClassMethodBodyChangedTransformation transformation : relevantTransformations) {
+			transformation.reconstructBehaviour(correspondenceModel);
+		}
+		// 3)
+		for (final ClassMethodBodyChangedTransformation transformation : relevantTransformations) {
+			transformation.connectBehaviour(correspondenceModel);
+		}
+		// 4)
+		for (final ClassMethodBodyChangedTransformation transformation : relevantTransformations) {
+			transformation.updateCorrespondences(correspondenceModel);
+		}
+	}
+
+	/**
+	 * First step of the transformation: removes the old elements of the behaviour.
+	 * 
+	 * @param correspondenceModel the current correspondence model.
+	 */
+	protected void removeOldBehaviour(final CorrespondenceModel correspondenceModel) {
+		this.removeCorrespondingAbstractActions(correspondenceModel);
+	}
+
+	/**
+	 * Second step of the transformation: reconstructs the behaviour of the method with SoMoX.
+	 * 
+	 * @param correspondenceModel the current correspondence model.
+	 */
+	protected void reconstructBehaviour(final CorrespondenceModel correspondenceModel) {
+		this.resourceDemandingBehaviour = this.findRdBehaviorToInsertElements(correspondenceModel);
 		final BasicComponent basicComponent = this.basicComponentFinder.findBasicComponentForMethod(this.newMethod,
 				correspondenceModel);
-		this.executeSoMoXForMethod(basicComponent, resourceDemandingBehaviour);
+		this.executeSoMoXForMethod(basicComponent, this.resourceDemandingBehaviour);
+	}
 
-		// 3)
-		this.connectCreatedResourceDemandingBehaviour(resourceDemandingBehaviour, correspondenceModel);
+	/**
+	 * Third step of the transformation: connects the reconstructed elements of the behaviour.
+	 * 
+	 * @param correspondenceModel the current correspondence model.
+	 */
+	protected void connectBehaviour(final CorrespondenceModel correspondenceModel) {
+		this.connectCreatedResourceDemandingBehaviour(this.resourceDemandingBehaviour, correspondenceModel);
+	}
 
-		// 4)
-		this.createNewCorrespondences(correspondenceModel, resourceDemandingBehaviour);
+	/**
+	 * Fourth step of the transformation: creates the correspondences for the reconstructed elements.
+	 * 
+	 * @param correspondenceModel the current correspondence model.
+	 */
+	protected void updateCorrespondences(final CorrespondenceModel correspondenceModel) {
+		this.createNewCorrespondences(correspondenceModel, this.resourceDemandingBehaviour);
 	}
 
 	/**
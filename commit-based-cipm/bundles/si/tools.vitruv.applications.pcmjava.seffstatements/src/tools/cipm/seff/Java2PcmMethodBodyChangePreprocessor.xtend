@@ -14,11 +14,17 @@ import org.somox.gast2seff.visitors.AbstractFunctionClassificationStrategy
 import tools.vitruv.domains.java.JavaDomain
 import tools.vitruv.domains.java.JavaDomainProvider
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute
-import org.emftext.language.java.commons.CommonsPackage
 import tools.vitruv.framework.domains.AbstractVitruvDomain
+import cipm.consistency.domains.java.propagation.MethodBodyChangeSignal
+import java.util.ArrayList
+import java.util.LinkedHashMap
+import java.util.LinkedHashSet
+import java.util.List
+import java.util.Set
 
 class Java2PcmMethodBodyChangePreprocessor extends AbstractChangePropagationSpecification {
 	val Code2SeffFactory code2SeffFactory;
+	val Set<Method> signaledMethods = new LinkedHashSet
 	
 	new(Code2SeffFactory code2SEFFfactory) {
 		this(code2SEFFfactory, new JavaDomainProvider().domain, new PcmDomainProvider().domain);
@@ -30,38 +36,77 @@ class Java2PcmMethodBodyChangePreprocessor extends AbstractChangePropagationSpec
 	}
 
 	override propagateChange(EChange change, CorrespondenceModel correspondenceModel, ResourceAccess resourceAccess) {
-		if (doesHandleChange(change, correspondenceModel)) {
-			val attrChange = change as ReplaceSingleValuedEAttribute<?, ?>;
-			val meth = attrChange.affectedEObject as Method;
-			executeClassMethodBodyChangeRefiner(correspondenceModel, userInteractor, meth);
+		if (!doesHandleChange(change, correspondenceModel)) {
+			// The signals are the last changes of a change sequence. Therefore, signaled methods kept from an
+			// earlier change belong to a sequence whose propagation failed before its batch end.
+			signaledMethods.clear
+			return
+		}
+		val attrChange = change as ReplaceSingleValuedEAttribute<?, ?>;
+		val meth = attrChange.affectedEObject as Method;
+		val changedMethods = collectChangedMethods(meth, MethodBodyChangeSignal.isBatchEndSignal(change))
+		if (!changedMethods.empty) {
+			executeClassMethodBodyChangeRefiner(correspondenceModel, userInteractor, changedMethods);
 		}
 	}
 
 	override doesHandleChange(EChange change, CorrespondenceModel correspondenceModel) {
-		if (!(change instanceof ReplaceSingleValuedEAttribute)) {
-			return false;
+		return MethodBodyChangeSignal.isMethodBodyChangeSignal(change)
+	}
+
+	/**
+	 * Collects the changed methods of one batch. The signals of a batch are consecutive changes of one change
+	 * sequence. The signaled methods are kept until the last signal of the batch is propagated. Then, all methods of
+	 * the batch which are still contained in a model are returned in the order of their signals.
+	 * 
+	 * Every method is signaled once per batch. If a method is signaled again before the batch end, the kept methods
+	 * belong to a batch whose propagation failed, and they are discarded. The kept methods are also discarded if
+	 * the propagation of the batch fails.
+	 */
+	protected def List<Method> collectChangedMethods(Method signaledMethod, boolean isBatchEnd) {
+		if (signaledMethods.contains(signaledMethod)) {
+			signaledMethods.clear
+		}
+		signaledMethods += signaledMethod
+		if (!isBatchEnd) {
+			return #[]
+		}
+		try {
+			return signaledMethods.filter[eResource !== null].toList
+		} finally {
+			signaledMethods.clear
 		}
-		val attrChange = change as ReplaceSingleValuedEAttribute<?, ?>;
-		return attrChange.affectedEObject instanceof Method
-			&& attrChange.affectedFeature == CommonsPackage.Literals.NAMED_ELEMENT__NAME
-			&& !attrChange.newValue.equals("")
 	}
 
-	private def void executeClassMethodBodyChangeRefiner(CorrespondenceModel correspondenceModel,
-		UserInteractor userInteracting, Method newMethod) {
+	/**
+	 * Reconstructs the SEFFs for the changed methods. The methods are grouped by their BasicComponent so that the
+	 * strategies are created once per component and the transformations of one component are executed as one batch.
+	 * Methods without a BasicComponent are grouped under null, and their strategies are created for a null
+	 * component, as it was done for a single method before.
+	 */
+	protected def void executeClassMethodBodyChangeRefiner(CorrespondenceModel correspondenceModel,
+		UserInteractor userInteracting, List<Method> newMethods) {
 		val basicComponentFinding = code2SeffFactory.createBasicComponentFinding
-		val BasicComponent myBasicComponent = basicComponentFinding.findBasicComponentForMethod(newMethod,
-			correspondenceModel);
-		val classification = code2SeffFactory.createAbstractFunctionClassificationStrategy(basicComponentFinding,
-			correspondenceModel, myBasicComponent);
-		val InterfaceOfExternalCallFindingFactory interfaceOfExternalCallFinderFactory = code2SeffFactory.
-			createInterfaceOfExternalCallFindingFactory(correspondenceModel, myBasicComponent);
 		val ResourceDemandingBehaviourForClassMethodFinding resourceDemandingBehaviourForClassMethodFinding =
 			code2SeffFactory.createResourceDemandingBehaviourForClassMethodFinding(correspondenceModel);
-		val ClassMethodBodyChangedTransformation methodBodyChanged = createTransformation(
-			newMethod, basicComponentFinding, classification, interfaceOfExternalCallFinderFactory,
-			resourceDemandingBehaviourForClassMethodFinding);
-		methodBodyChanged.execute(correspondenceModel, userInteracting);
+		val methodsPerComponent = new LinkedHashMap<BasicComponent, List<Method>>
+		for (newMethod : newMethods) {
+			val BasicComponent myBasicComponent = basicComponentFinding.findBasicComponentForMethod(newMethod,
+				correspondenceModel);
+			// The component is null for methods outside of all components. LinkedHashMap permits it as key.
+			methodsPerComponent.computeIfAbsent(myBasicComponent, [new ArrayList]).add(newMethod)
+		}
+		methodsPerComponent.forEach [ myBasicComponent, componentMethods |
+			val classification = code2SeffFactory.createAbstractFunctionClassificationStrategy(basicComponentFinding,
+				correspondenceModel, myBasicComponent);
+			val InterfaceOfExternalCallFindingFactory interfaceOfExternalCallFinderFactory = code2SeffFactory.
+				createInterfaceOfExternalCallFindingFactory(correspondenceModel, myBasicComponent);
+			val transformations = componentMethods.map [
+				createTransformation(it, basicComponentFinding, classification, interfaceOfExternalCallFinderFactory,
+					resourceDemandingBehaviourForClassMethodFinding)
+			]
+			ClassMethodBodyChangedTransformation.executeBatch(transformations, correspondenceModel)
+		]
 	}
 	
 	protected def ClassMethodBodyChangedTransformation createTransformation(Method newMethod,
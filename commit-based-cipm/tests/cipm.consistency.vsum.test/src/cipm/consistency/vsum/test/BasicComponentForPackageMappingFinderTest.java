@@ -0,0 +1,97 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.java.containers.CompilationUnit;
+import org.emftext.language.java.containers.ContainersFactory;
+import org.emftext.language.java.containers.Package;
+import org.emftext.language.java.members.Method;
+import org.junit.jupiter.api.Test;
+
+import tools.cipm.seff.pojotransformations.code2seff.BasicComponentForPackageMappingFinder;
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+
+/**
+ * Tests that the lookups of the BasicComponentForPackageMappingFinder do not retain memory and that packages without
+ * a component are queried once until the caches are invalidated.
+ */
+public class BasicComponentForPackageMappingFinderTest {
+	private static final int NUMBER_OF_LOOKUPS = 100_000;
+	private static final int NUMBER_OF_METHODS = 1_000;
+	private static final int NUMBER_OF_PACKAGES = 10;
+	private static final long MAX_HEAP_GROWTH = 16L * 1024 * 1024;
+	
+	@Test
+	public void testHeapGrowthOverManyLookups() {
+		List<Method> methods = PerformanceTestUtil.createMethods(NUMBER_OF_METHODS, NUMBER_OF_PACKAGES);
+		CorrespondenceModel correspondenceModel = PerformanceTestUtil.createEmptyCorrespondenceModel();
+		BasicComponentForPackageMappingFinder finder = new BasicComponentForPackageMappingFinder();
+		for (Method method : methods) {
+			assertNull(finder.findBasicComponentForMethod(method, correspondenceModel));
+		}
+		
+		long heapBefore = PerformanceTestUtil.getUsedHeapAfterGc();
+		for (int i = 0; i < NUMBER_OF_LOOKUPS; i++) {
+			finder.findBasicComponentForMethod(methods.get(i % NUMBER_OF_METHODS), correspondenceModel);
+		}
+		long heapGrowth = PerformanceTestUtil.getUsedHeapAfterGc() - heapBefore;
+		
+		assertTrue(heapGrowth < MAX_HEAP_GROWTH, "The heap grew by " + heapGrowth + " bytes over "
+				+ NUMBER_OF_LOOKUPS + " lookups.");
+	}
+	
+	@Test
+	public void testPackagesWithoutComponentAreQueriedOnce() {
+		List<Method> methods = PerformanceTestUtil.createMethods(NUMBER_OF_METHODS, NUMBER_OF_PACKAGES);
+		ResourceSet resourceSet = new ResourceSetImpl();
+		for (Method method : methods) {
+			CompilationUnit cu = method.getContainingCompilationUnit();
+			resourceSet.getResources().add(cu.eResource());
+			URI packageURI = cu.eResource().getURI().trimSegments(1).appendSegment("package-info.java");
+			if (resourceSet.getResource(packageURI, false) == null) {
+				Package pack = ContainersFactory.eINSTANCE.createPackage();
+				pack.getNamespaces().addAll(cu.getNamespaces());
+				Resource resource = new ResourceImpl(packageURI);
+				resource.getContents().add(pack);
+				resourceSet.getResources().add(resource);
+			}
+		}
+		int numberOfResources = resourceSet.getResources().size();
+		AtomicInteger queries = new AtomicInteger();
+		CorrespondenceModel emptyModel = PerformanceTestUtil.createEmptyCorrespondenceModel();
+		CorrespondenceModel correspondenceModel = (CorrespondenceModel) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] { CorrespondenceModel.class }, (proxy, method, args) -> {
+					queries.incrementAndGet();
+					return method.invoke(emptyModel, args);
+				});
+		BasicComponentForPackageMappingFinder finder = new BasicComponentForPackageMappingFinder();
+		
+		for (Method method : methods) {
+			assertNull(finder.findBasicComponentForMethod(method, correspondenceModel));
+		}
+		int queriesOfFirstPass = queries.get();
+		assertTrue(queriesOfFirstPass > 0, "The existing packages must be queried.");
+		for (Method method : methods) {
+			assertNull(finder.findBasicComponentForMethod(method, correspondenceModel));
+		}
+		assertEquals(queriesOfFirstPass, queries.get());
+		
+		BasicComponentForPackageMappingFinder.invalidateCaches();
+		for (Method method : methods) {
+			assertNull(finder.findBasicComponentForMethod(method, correspondenceModel));
+		}
+		assertEquals(2 * queriesOfFirstPass, queries.get());
+		assertEquals(numberOfResources, resourceSet.getResources().size());
+	}
+}
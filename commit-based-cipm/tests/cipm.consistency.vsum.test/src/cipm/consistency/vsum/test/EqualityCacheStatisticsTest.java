@@ -0,0 +1,117 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.compare.Comparison;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.java.classifiers.ClassifiersFactory;
+import org.emftext.language.java.containers.CompilationUnit;
+import org.emftext.language.java.containers.ContainersFactory;
+import org.emftext.language.java.members.ClassMethod;
+import org.emftext.language.java.members.MembersFactory;
+import org.emftext.language.java.types.TypesFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.splevo.jamopp.diffing.JaMoPPDiffer;
+
+import com.google.common.cache.CacheStats;
+
+import cipm.consistency.commitintegration.diff.util.JavaModelComparator;
+
+/**
+ * Tests that the statistics of the equality cache are passed to the listener of the JaMoPPDiffer, both for the
+ * comparisons of the JaMoPPDiffer and for those of the JavaModelComparator, which the Java domain uses.
+ */
+public class EqualityCacheStatisticsTest {
+	private static final Map<String, String> RECORDING_OPTIONS = Map.of(
+			JaMoPPDiffer.OPTION_EQUALITY_CACHE_RECORD_STATS, Boolean.TRUE.toString());
+	private static final int NUMBER_OF_METHODS = 10;
+
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	public void removeListener() {
+		JaMoPPDiffer.setEqualityCacheStatisticsListener(null);
+	}
+
+	@Test
+	public void testComparatorPublishesRecordedStatistics() {
+		List<CacheStats> published = listen();
+		Comparison comparison = JavaModelComparator.compareJavaModels(createModel(NUMBER_OF_METHODS + 1),
+				createModel(NUMBER_OF_METHODS), null, null, null, RECORDING_OPTIONS);
+
+		assertFalse(comparison.getDifferences().isEmpty());
+		assertEquals(1, published.size());
+		assertTrue(published.get(0).requestCount() > 0, "The equality cache must have been used.");
+	}
+
+	@Test
+	public void testComparatorPublishesNothingWithoutRecording() {
+		List<CacheStats> published = listen();
+		JavaModelComparator.compareJavaModels(createModel(NUMBER_OF_METHODS + 1), createModel(NUMBER_OF_METHODS),
+				null, null, null);
+		JavaModelComparator.compareJavaModels(createModel(NUMBER_OF_METHODS + 1), createModel(NUMBER_OF_METHODS),
+				null, null, null, Map.of());
+
+		assertTrue(published.isEmpty());
+	}
+
+	@Test
+	public void testDifferPublishesRecordedStatistics() throws Exception {
+		List<CacheStats> published = listen();
+		Path leading = writeProject("leading", "\tpublic void added() {\n\t}\n");
+		Path integration = writeProject("integration", "");
+		new JaMoPPDiffer().doDiff(leading.toUri(), integration.toUri(), RECORDING_OPTIONS);
+		new JaMoPPDiffer().doDiff(leading.toUri(), integration.toUri(), Map.of());
+
+		assertEquals(1, published.size());
+		assertTrue(published.get(0).requestCount() > 0, "The equality cache must have been used.");
+	}
+
+	private List<CacheStats> listen() {
+		List<CacheStats> published = new ArrayList<>();
+		JaMoPPDiffer.setEqualityCacheStatisticsListener(published::add);
+		return published;
+	}
+
+	private ResourceSet createModel(int numberOfMethods) {
+		CompilationUnit cu = ContainersFactory.eINSTANCE.createCompilationUnit();
+		cu.getNamespaces().add("p");
+		cu.setName("p.Service.java");
+		org.emftext.language.java.classifiers.Class cls = ClassifiersFactory.eINSTANCE.createClass();
+		cls.setName("Service");
+		cu.getClassifiers().add(cls);
+		for (int i = 0; i < numberOfMethods; i++) {
+			ClassMethod method = MembersFactory.eINSTANCE.createClassMethod();
+			method.setName("m" + i);
+			method.setTypeReference(TypesFactory.eINSTANCE.createVoid());
+			cls.getMembers().add(method);
+		}
+		ResourceSet resourceSet = new ResourceSetImpl();
+		Resource resource = new ResourceImpl(URI.createFileURI("/p/Service.java"));
+		resource.getContents().add(cu);
+		resourceSet.getResources().add(resource);
+		return resourceSet;
+	}
+
+	private Path writeProject(String name, String members) throws IOException {
+		Path pkg = Files.createDirectories(tempDir.resolve(name).resolve("p"));
+		Files.writeString(pkg.resolve("Service.java"), "package p;\n\npublic class Service {\n" + members + "}\n");
+		return tempDir.resolve(name);
+	}
+}
@@ -0,0 +1,151 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.log4j.Logger;
+import org.emftext.language.java.members.Method;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.pcm.repository.BasicComponent;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+
+import cipm.consistency.commitintegration.settings.CommitIntegrationSettingsContainer;
+import cipm.consistency.commitintegration.settings.SettingKeys;
+import tools.cipm.seff.extended.FunctionClassificationStrategyForCommitIntegration;
+import tools.cipm.seff.pojotransformations.code2seff.BasicComponentForPackageMappingFinder;
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+
+/**
+ * Benchmarks the classification of external calls by the FunctionClassificationStrategyForCommitIntegration on a
+ * model with 100,000 call sites. Every call site calls one of the methods so that most calls are classified by the
+ * cached classification of the called method.
+ */
+public class FunctionClassificationBenchmarkTest {
+	private static final Logger LOGGER = Logger
+			.getLogger("cipm." + FunctionClassificationBenchmarkTest.class.getSimpleName());
+	private static final int NUMBER_OF_METHODS = 1_000;
+	private static final int NUMBER_OF_CALL_SITES = 100_000;
+	private static final int NUMBER_OF_PACKAGES = 10;
+	private static final int NUMBER_OF_REST_PACKAGES = 3;
+	private static final int NUMBER_OF_UNRELATED_REST_PACKAGES = 50;
+	private static final int NUMBER_OF_WARM_UP_ROUNDS = 5;
+	private static final int NUMBER_OF_ROUNDS = 3;
+	
+	@TempDir
+	Path tempDir;
+	
+	@BeforeEach
+	public void setUp() throws IOException {
+		String restPackages = IntStream.range(0, NUMBER_OF_UNRELATED_REST_PACKAGES).mapToObj(i -> "com.rest.api" + i)
+				.collect(Collectors.joining(";"));
+		for (int i = 0; i < NUMBER_OF_REST_PACKAGES; i++) {
+			restPackages += ";org.example.p" + i;
+		}
+		initializeSettings(restPackages);
+	}
+	
+	private void initializeSettings(String restPackages) throws IOException {
+		Path settings = tempDir.resolve("settings.properties");
+		Files.writeString(settings, SettingKeys.REST_CLIENT_API_PACKAGES + "=" + restPackages + "\n");
+		CommitIntegrationSettingsContainer.initialize(settings);
+	}
+	
+	@Test
+	public void testRestClientPackagesAreParsedOnce() {
+		var container = CommitIntegrationSettingsContainer.getSettingsContainer();
+		var packages = container.getPropertyAsSet(SettingKeys.REST_CLIENT_API_PACKAGES);
+		
+		assertEquals(NUMBER_OF_UNRELATED_REST_PACKAGES + NUMBER_OF_REST_PACKAGES, packages.size());
+		assertSame(packages, container.getPropertyAsSet(SettingKeys.REST_CLIENT_API_PACKAGES));
+	}
+	
+	@Test
+	public void testChangedSettingsAreUsed() throws IOException {
+		List<Method> methods = PerformanceTestUtil.createMethods(NUMBER_OF_PACKAGES, NUMBER_OF_PACKAGES);
+		assertTrue(new BenchmarkedStrategy(PerformanceTestUtil.createEmptyCorrespondenceModel())
+				.classify(methods.get(0)));
+		
+		initializeSettings("org.example.p" + (NUMBER_OF_PACKAGES - 1));
+		BenchmarkedStrategy strategy = new BenchmarkedStrategy(PerformanceTestUtil.createEmptyCorrespondenceModel());
+		assertFalse(strategy.classify(methods.get(0)));
+		assertTrue(strategy.classify(methods.get(NUMBER_OF_PACKAGES - 1)));
+	}
+	
+	@Test
+	public void testSubPackagesAreNotRestClientPackages() throws IOException {
+		initializeSettings("org;org.example");
+		List<Method> methods = PerformanceTestUtil.createMethods(NUMBER_OF_PACKAGES, NUMBER_OF_PACKAGES);
+		BenchmarkedStrategy strategy = new BenchmarkedStrategy(PerformanceTestUtil.createEmptyCorrespondenceModel());
+		for (Method method : methods) {
+			assertFalse(strategy.classify(method));
+		}
+	}
+	
+	@Test
+	public void benchmarkIsExternalCall() {
+		List<Method> methods = PerformanceTestUtil.createMethods(NUMBER_OF_METHODS, NUMBER_OF_PACKAGES);
+		CorrespondenceModel correspondenceModel = PerformanceTestUtil.createEmptyCorrespondenceModel();
+		for (int round = 0; round < NUMBER_OF_WARM_UP_ROUNDS; round++) {
+			classifyCallSites(new BenchmarkedStrategy(correspondenceModel), methods);
+		}
+		
+		long uncachedTime = Long.MAX_VALUE;
+		long cachedTime = Long.MAX_VALUE;
+		for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+			BenchmarkedStrategy strategy = new BenchmarkedStrategy(correspondenceModel);
+			long start = System.nanoTime();
+			classifyCallSites(strategy, methods);
+			uncachedTime = Math.min(uncachedTime, System.nanoTime() - start);
+			
+			start = System.nanoTime();
+			classifyCallSites(strategy, methods);
+			cachedTime = Math.min(cachedTime, System.nanoTime() - start);
+		}
+		
+		LOGGER.info("Classifying " + NUMBER_OF_CALL_SITES + " call sites of " + NUMBER_OF_METHODS + " methods took "
+				+ uncachedTime / 1_000 + " us with a new strategy and " + cachedTime / 1_000
+				+ " us with a strategy which has classified all methods before.");
+	}
+	
+	/**
+	 * Classifies the calls of all call sites. The i-th call site calls the method i % NUMBER_OF_METHODS.
+	 */
+	private void classifyCallSites(BenchmarkedStrategy strategy, List<Method> methods) {
+		for (int idx = 0; idx < NUMBER_OF_CALL_SITES; idx++) {
+			int methodIdx = idx % NUMBER_OF_METHODS;
+			boolean isRestPackage = methodIdx % NUMBER_OF_PACKAGES < NUMBER_OF_REST_PACKAGES;
+			assertEquals(isRestPackage, strategy.classify(methods.get(methodIdx)),
+					"Wrong classification of method " + methodIdx);
+		}
+	}
+	
+	/**
+	 * Exposes the classification of the strategy for a component which contains none of the methods.
+	 */
+	private static class BenchmarkedStrategy extends FunctionClassificationStrategyForCommitIntegration {
+		BenchmarkedStrategy(CorrespondenceModel correspondenceModel) {
+			super(new BasicComponentForPackageMappingFinder(), correspondenceModel, createComponent());
+		}
+		
+		private static BasicComponent createComponent() {
+			BasicComponent component = RepositoryFactory.eINSTANCE.createBasicComponent();
+			component.setId("benchmark");
+			return component;
+		}
+		
+		boolean classify(Method method) {
+			return isExternalCall(method);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.compare.MatchResource;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.junit.jupiter.api.Test;
+import org.splevo.diffing.match.HierarchicalStrategyResourceMatcher;
+
+/**
+ * Tests that the HierarchicalStrategyResourceMatcher scales linearly with the number of resources, also if many
+ * resources share the same file name. The accesses to the URIs of the resources are counted.
+ */
+public class HierarchicalResourceMatcherScalingTest {
+	private static final int[] NUMBERS_OF_RESOURCES = { 100, 1_000, 10_000 };
+	private static final String SHARED_FILE_NAME = "Util.java";
+	// The matcher reads the URI of a resource for indexing, for its candidates and for its match on both sides.
+	private static final int MAX_URI_ACCESSES_PER_RESOURCE = 12;
+	
+	private long uriAccesses;
+	
+	@Test
+	public void testMatchResult() {
+		int numberOfResources = NUMBERS_OF_RESOURCES[NUMBERS_OF_RESOURCES.length - 1];
+		List<MatchResource> mappings = match(numberOfResources);
+		
+		assertEquals(numberOfResources, mappings.size());
+		for (MatchResource mapping : mappings) {
+			assertNotNull(mapping.getLeft());
+			assertNotNull(mapping.getRight());
+			assertEquals(getPackagePath(mapping.getLeft()), getPackagePath(mapping.getRight()));
+		}
+	}
+	
+	@Test
+	public void testMatchingScalesLinearly() {
+		PerformanceTestUtil.assertLinearOperationCount(NUMBERS_OF_RESOURCES, numberOfResources -> {
+			List<Resource> left = createResources("left", numberOfResources);
+			List<Resource> right = createResources("right", numberOfResources);
+			uriAccesses = 0;
+			new HierarchicalStrategyResourceMatcher().createMappings(left.iterator(), right.iterator(), null);
+			return uriAccesses;
+		}, MAX_URI_ACCESSES_PER_RESOURCE);
+	}
+	
+	private List<MatchResource> match(int numberOfResources) {
+		List<MatchResource> mappings = new ArrayList<>();
+		new HierarchicalStrategyResourceMatcher().createMappings(createResources("left", numberOfResources)
+				.iterator(), createResources("right", numberOfResources).iterator(), null).forEach(mappings::add);
+		return mappings;
+	}
+	
+	/**
+	 * Creates resources in separate packages. Half of them share one file name, the others have unique file names.
+	 */
+	private List<Resource> createResources(String root, int numberOfResources) {
+		List<Resource> resources = new ArrayList<>();
+		for (int idx = 0; idx < numberOfResources; idx++) {
+			String fileName = idx % 2 == 0 ? SHARED_FILE_NAME : "C" + idx + ".java";
+			resources.add(new CountingResource(URI.createFileURI("/" + root + "/src/org/example/p" + idx + "/"
+					+ fileName)));
+		}
+		return resources;
+	}
+	
+	private String getPackagePath(Resource resource) {
+		String[] segments = resource.getURI().segments();
+		return String.join("/", List.of(segments).subList(1, segments.length));
+	}
+	
+	/**
+	 * A resource which counts the accesses to its URI.
+	 */
+	private class CountingResource extends ResourceImpl {
+		CountingResource(URI uri) {
+			super(uri);
+		}
+		
+		@Override
+		public URI getURI() {
+			uriAccesses++;
+			return super.getURI();
+		}
+	}
+}
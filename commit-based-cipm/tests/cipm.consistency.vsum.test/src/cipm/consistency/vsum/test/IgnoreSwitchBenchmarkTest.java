@@ -0,0 +1,176 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.java.classifiers.ClassifiersFactory;
+import org.emftext.language.java.containers.CompilationUnit;
+import org.emftext.language.java.containers.ContainersFactory;
+import org.emftext.language.java.members.ClassMethod;
+import org.emftext.language.java.members.Field;
+import org.emftext.language.java.members.MembersFactory;
+import org.emftext.language.java.types.ClassifierReference;
+import org.emftext.language.java.types.TypesFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.splevo.jamopp.diffing.scope.IgnoreSwitch;
+import org.splevo.jamopp.diffing.util.JaMoPPModelUtil;
+
+/**
+ * Benchmarks the IgnoreSwitch on a model with one compilation unit for every top-level class of the JDK classpath.
+ * The classes are taken from the module image of the running JDK. Every class has a field and a method whose types
+ * reference the class. The model only contains elements which the switch decides by the namespace path of their
+ * compilation unit, so that the previous implementation can be reproduced by matching the namespace path of every
+ * element against the ignore patterns.
+ */
+public class IgnoreSwitchBenchmarkTest {
+	private static final Logger LOGGER = Logger.getLogger("cipm." + IgnoreSwitchBenchmarkTest.class.getSimpleName());
+	private static final List<String> IGNORE_PACKAGES = List.of("java.*", "javax.*");
+	private static final int NUMBER_OF_ROUNDS = 3;
+
+	private static List<CompilationUnit> compilationUnits;
+	private static List<EObject> elements;
+
+	@BeforeAll
+	public static void createJdkModel() throws IOException {
+		compilationUnits = new ArrayList<>();
+		elements = new ArrayList<>();
+		Path modules = FileSystems.getFileSystem(URI.create("jrt:/")).getPath("/modules");
+		try (Stream<Path> classFiles = Files.walk(modules)) {
+			for (Path classFile : classFiles.filter(IgnoreSwitchBenchmarkTest::isTopLevelClass)
+					.collect(Collectors.toList())) {
+				Path relativePath = modules.relativize(classFile);
+				List<String> namespaces = new ArrayList<>();
+				for (int idx = 1; idx < relativePath.getNameCount() - 1; idx++) {
+					namespaces.add(relativePath.getName(idx).toString());
+				}
+				String className = relativePath.getFileName().toString().replace(".class", "");
+				compilationUnits.add(createCompilationUnit(namespaces, className));
+			}
+		}
+		for (CompilationUnit cu : compilationUnits) {
+			elements.add(cu);
+			cu.eAllContents().forEachRemaining(elements::add);
+		}
+	}
+
+	private static boolean isTopLevelClass(Path path) {
+		String fileName = path.getFileName() == null ? "" : path.getFileName().toString();
+		return fileName.endsWith(".class") && !fileName.contains("$") && !fileName.equals("module-info.class")
+				&& !fileName.equals("package-info.class");
+	}
+
+	private static CompilationUnit createCompilationUnit(List<String> namespaces, String className) {
+		CompilationUnit cu = ContainersFactory.eINSTANCE.createCompilationUnit();
+		cu.getNamespaces().addAll(namespaces);
+		cu.setName(String.join(".", namespaces) + "." + className + ".java");
+		org.emftext.language.java.classifiers.Class cls = ClassifiersFactory.eINSTANCE.createClass();
+		cls.setName(className);
+		cu.getClassifiers().add(cls);
+		Field field = MembersFactory.eINSTANCE.createField();
+		field.setName("instance");
+		field.setTypeReference(createReference(cls));
+		cls.getMembers().add(field);
+		ClassMethod method = MembersFactory.eINSTANCE.createClassMethod();
+		method.setName("get");
+		method.setTypeReference(createReference(cls));
+		cls.getMembers().add(method);
+		return cu;
+	}
+
+	private static ClassifierReference createReference(org.emftext.language.java.classifiers.Class cls) {
+		ClassifierReference reference = TypesFactory.eINSTANCE.createClassifierReference();
+		reference.setTarget(cls);
+		return reference;
+	}
+
+	@Test
+	public void testDecisionsMatchPackagePathMatching() {
+		IgnoreSwitch ignoreSwitch = new IgnoreSwitch(IGNORE_PACKAGES);
+		int ignored = 0;
+		for (EObject element : elements) {
+			boolean expected = matchNamespacePath(element);
+			assertEquals(Boolean.valueOf(expected), ignoreSwitch.doSwitch(element), "Wrong decision for " + element);
+			if (expected) {
+				ignored++;
+			}
+		}
+		assertTrue(0 < ignored && ignored < elements.size(), "The JDK model must contain ignored and kept elements.");
+	}
+
+	@Test
+	public void testPackagePathsAreMatchedOncePerCompilationUnitAndType() {
+		CountingIgnoreSwitch ignoreSwitch = new CountingIgnoreSwitch();
+		for (EObject element : elements) {
+			ignoreSwitch.doSwitch(element);
+		}
+		// One match for every compilation unit and its class, independent of the number of members and references.
+		assertEquals(2 * compilationUnits.size(), ignoreSwitch.packagePathChecks);
+
+		for (EObject element : elements) {
+			ignoreSwitch.doSwitch(element);
+		}
+		assertEquals(2 * compilationUnits.size(), ignoreSwitch.packagePathChecks);
+	}
+
+	@Test
+	public void benchmarkIgnoreSwitch() {
+		long matchingTime = Long.MAX_VALUE;
+		long switchTime = Long.MAX_VALUE;
+		for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (EObject element : elements) {
+				matchNamespacePath(element);
+			}
+			matchingTime = Math.min(matchingTime, System.nanoTime() - start);
+
+			start = System.nanoTime();
+			IgnoreSwitch ignoreSwitch = new IgnoreSwitch(IGNORE_PACKAGES);
+			for (EObject element : elements) {
+				ignoreSwitch.doSwitch(element);
+			}
+			switchTime = Math.min(switchTime, System.nanoTime() - start);
+		}
+		LOGGER.info("Checking " + elements.size() + " elements of " + compilationUnits.size()
+				+ " JDK compilation units took " + matchingTime / 1_000_000 + " ms by matching the namespace path of"
+				+ " every element and " + switchTime / 1_000_000 + " ms with the IgnoreSwitch.");
+	}
+
+	/**
+	 * Decides an element as the IgnoreSwitch did before the patterns were compiled once and the decisions were
+	 * cached: the namespace path of the element is matched against every ignore pattern.
+	 */
+	private static boolean matchNamespacePath(EObject element) {
+		String packagePath = JaMoPPModelUtil.buildNamespacePath(element);
+		return IGNORE_PACKAGES.stream().anyMatch(packagePath::matches);
+	}
+
+	/**
+	 * Counts how often a package path is matched against the ignore patterns.
+	 */
+	private static class CountingIgnoreSwitch extends IgnoreSwitch {
+		private int packagePathChecks;
+
+		CountingIgnoreSwitch() {
+			super(IGNORE_PACKAGES);
+		}
+
+		@Override
+		public Boolean shouldBeIgnored(String packagePath) {
+			packagePathChecks++;
+			return super.shouldBeIgnored(packagePath);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.emftext.language.java.commons.CommonsPackage;
+import org.emftext.language.java.members.ClassMethod;
+import org.emftext.language.java.members.MembersFactory;
+import org.emftext.language.java.members.Method;
+import org.junit.jupiter.api.Test;
+
+import cipm.consistency.domains.java.propagation.MethodBodyChangeSignal;
+import tools.cipm.seff.ClassMethodBodyChangedTransformation;
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+
+/**
+ * Tests the signaling and the batch execution of changed method bodies.
+ */
+public class MethodBodyChangeBatchTest {
+	@Test
+	public void testOneSignalPerMethodAndBatchEndForLastMethod() {
+		List<Object> oldNames = new ArrayList<>();
+		List<Method> methods = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			ClassMethod method = MembersFactory.eINSTANCE.createClassMethod();
+			method.setName("m" + i);
+			method.eAdapters().add(new AdapterImpl() {
+				@Override
+				public void notifyChanged(Notification msg) {
+					if (msg.getFeature() == CommonsPackage.Literals.NAMED_ELEMENT__NAME) {
+						oldNames.add(msg.getOldValue());
+					}
+				}
+			});
+			methods.add(method);
+		}
+		
+		MethodBodyChangeSignal.signalChangedMethods(methods);
+		
+		assertEquals(List.of(MethodBodyChangeSignal.SIGNAL_VALUE, MethodBodyChangeSignal.SIGNAL_VALUE,
+				MethodBodyChangeSignal.BATCH_END_SIGNAL_VALUE), oldNames);
+		for (int i = 0; i < 3; i++) {
+			assertEquals("m" + i, methods.get(i).getName());
+		}
+	}
+	
+	@Test
+	public void testBatchExecutesEachStepForAllMethods() {
+		List<String> steps = new ArrayList<>();
+		List<RecordingTransformation> transformations = List.of(new RecordingTransformation("a", true, steps),
+				new RecordingTransformation("b", false, steps), new RecordingTransformation("c", true, steps));
+		
+		ClassMethodBodyChangedTransformation.executeBatch(transformations,
+				PerformanceTestUtil.createEmptyCorrespondenceModel());
+		
+		assertEquals(List.of("a:remove", "c:remove", "a:reconstruct", "c:reconstruct", "a:connect", "c:connect",
+				"a:correspondences", "c:correspondences"), steps);
+	}
+	
+	private static class RecordingTransformation extends ClassMethodBodyChangedTransformation {
+		private final String name;
+		private final boolean isRelevant;
+		private final List<String> steps;
+		
+		RecordingTransformation(String name, boolean isRelevant, List<String> steps) {
+			super(MembersFactory.eINSTANCE.createClassMethod(), null, null, null, null);
+			this.name = name;
+			this.isRelevant = isRelevant;
+			this.steps = steps;
+		}
+		
+		@Override
+		protected boolean isArchitectureRelevantChange(CorrespondenceModel ci) {
+			return isRelevant;
+		}
+		
+		@Override
+		protected void removeOldBehaviour(CorrespondenceModel correspondenceModel) {
+			steps.add(name + ":remove");
+		}
+		
+		@Override
+		protected void reconstructBehaviour(CorrespondenceModel correspondenceModel) {
+			steps.add(name + ":reconstruct");
+		}
+		
+		@Override
+		protected void connectBehaviour(CorrespondenceModel correspondenceModel) {
+			steps.add(name + ":connect");
+		}
+		
+		@Override
+		protected void updateCorrespondences(CorrespondenceModel correspondenceModel) {
+			steps.add(name + ":correspondences");
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.compare.Comparison;
+import org.eclipse.emf.compare.Diff;
+import org.eclipse.emf.compare.Match;
+import org.emftext.language.java.statements.Statement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.splevo.jamopp.diffing.JaMoPPDiffer;
+import org.splevo.jamopp.diffing.jamoppdiff.StatementChange;
+import org.splevo.jamopp.diffing.postprocessor.JaMoPPPostProcessor;
+import org.splevo.jamopp.util.JaMoPPElementUtil;
+
+/**
+ * Tests that the cleanup of nested differences in the JaMoPPPostProcessor removes the same differences as the
+ * previous implementation, which walked up all parent matches for every difference. The differences are recorded
+ * while diffing versions of a service class with nested statement changes.
+ */
+public class NestedDifferencesCleanupTest {
+	private static final String HEADER = "package p;\n\nimport java.util.ArrayList;\nimport java.util.List;\n\n"
+			+ "public class Service {\n\tprivate List<String> items = new ArrayList<>();\n\n";
+	private static final String INTEGRATION_SERVICE = HEADER
+			+ "\tpublic int count(String prefix) {\n\t\tint result = 0;\n\t\tfor (String item : items) {\n"
+			+ "\t\t\tif (item.startsWith(prefix)) {\n\t\t\t\tresult++;\n\t\t\t}\n\t\t}\n\t\treturn result;\n\t}\n\n"
+			+ "\tpublic void add(String item) {\n\t\titems.add(item);\n\t}\n}\n";
+	private static final String WRAPPED_SERVICE = HEADER
+			+ "\tpublic int count(String prefix) {\n\t\tint result = 0;\n\t\tif (prefix != null) {\n"
+			+ "\t\t\tfor (String item : items) {\n\t\t\t\tif (item.startsWith(prefix)) {\n"
+			+ "\t\t\t\t\tresult += 2;\n\t\t\t\t\tSystem.out.println(item);\n\t\t\t\t}\n\t\t\t}\n\t\t}\n"
+			+ "\t\treturn result;\n\t}\n\n"
+			+ "\tpublic void add(String item) {\n\t\ttry {\n\t\t\tif (item.isEmpty()) {\n"
+			+ "\t\t\t\tthrow new IllegalArgumentException();\n\t\t\t}\n\t\t\titems.add(item.trim());\n"
+			+ "\t\t} catch (RuntimeException e) {\n\t\t\titems.clear();\n\t\t}\n\t}\n}\n";
+	private static final String REPLACED_SERVICE = HEADER
+			+ "\tpublic int count(String prefix) {\n\t\tint result = 0;\n\t\twhile (result < items.size()) {\n"
+			+ "\t\t\tRunnable remover = new Runnable() {\n\t\t\t\tpublic void run() {\n"
+			+ "\t\t\t\t\tif (!items.isEmpty()) {\n\t\t\t\t\t\titems.remove(0);\n\t\t\t\t\t}\n\t\t\t\t}\n"
+			+ "\t\t\t};\n\t\t\tremover.run();\n\t\t\tresult++;\n\t\t}\n\t\treturn result;\n\t}\n\n"
+			+ "\tpublic void add(String item) {\n\t\tfor (int i = 0; i < 2; i++) {\n\t\t\titems.add(item);\n\t\t}\n"
+			+ "\t}\n}\n";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void testNestedDifferencesEqualParentWalk() throws Exception {
+		Path integration = writeProject("integration", INTEGRATION_SERVICE);
+		List<CleanupResult> results = new ArrayList<>();
+		for (String leadingService : List.of(WRAPPED_SERVICE, REPLACED_SERVICE)) {
+			Path leading = writeProject("leading" + results.size(), leadingService);
+			new CheckingDiffer(results).doDiff(leading.toUri(), integration.toUri(), Map.of());
+			new CheckingDiffer(results).doDiff(integration.toUri(), leading.toUri(), Map.of());
+		}
+
+		boolean anyNestedDifference = false;
+		for (CleanupResult result : results) {
+			assertEquals(result.parentWalkDiffs, result.removedDiffs);
+			anyNestedDifference |= !result.removedDiffs.isEmpty();
+		}
+		assertEquals(4, results.size());
+		assertTrue(anyNestedDifference, "The recorded comparisons must contain nested differences.");
+	}
+
+	private Path writeProject(String name, String service) throws IOException {
+		Path pkg = Files.createDirectories(tempDir.resolve(name).resolve("p"));
+		Files.writeString(pkg.resolve("Service.java"), service);
+		return tempDir.resolve(name);
+	}
+
+	/**
+	 * The differences which the parent walk selects for removal and which the post processor removed from one
+	 * comparison.
+	 */
+	private static class CleanupResult {
+		private final Set<Diff> parentWalkDiffs;
+		private final Set<Diff> removedDiffs;
+
+		CleanupResult(Set<Diff> parentWalkDiffs, Set<Diff> removedDiffs) {
+			this.parentWalkDiffs = parentWalkDiffs;
+			this.removedDiffs = removedDiffs;
+		}
+	}
+
+	/**
+	 * A differ whose post processor records the cleanup of the nested differences.
+	 */
+	private static class CheckingDiffer extends JaMoPPDiffer {
+		private final List<CleanupResult> results;
+
+		CheckingDiffer(List<CleanupResult> results) {
+			this.results = results;
+		}
+
+		@Override
+		protected JaMoPPPostProcessor createPostProcessor(Map<String, String> diffingOptions) {
+			return new JaMoPPPostProcessor(diffingOptions) {
+				@Override
+				protected void cleanNestedDifferences(Comparison comparison) {
+					Set<Diff> parentWalkDiffs = findNestedDifferencesByParentWalk(comparison);
+					Set<Diff> removedDiffs = new HashSet<>(comparison.getDifferences());
+					super.cleanNestedDifferences(comparison);
+					removedDiffs.removeAll(comparison.getDifferences());
+					results.add(new CleanupResult(parentWalkDiffs, removedDiffs));
+				}
+			};
+		}
+	}
+
+	/**
+	 * Finds the nested differences as the JaMoPPPostProcessor did before the match tree was traversed once: for
+	 * every difference, all parent matches are walked up.
+	 */
+	private static Set<Diff> findNestedDifferencesByParentWalk(Comparison comparison) {
+		Set<Diff> diffsToRemove = new HashSet<>();
+		for (Diff diff : comparison.getDifferences()) {
+			Match parentMatch = getParentMatch(diff.getMatch());
+			while (parentMatch != null) {
+				if (parentMatch.getDifferences().size() > 0 && atLeastOneDiffIsStatement(parentMatch)
+						&& oneIsParent(parentMatch, diff) && noClassElement(parentMatch)) {
+					diffsToRemove.add(diff);
+					break;
+				}
+				parentMatch = getParentMatch(parentMatch);
+			}
+		}
+		return diffsToRemove;
+	}
+
+	private static boolean oneIsParent(Match parentMatch, Diff diff) {
+		if (!(diff instanceof StatementChange)) {
+			return false;
+		}
+		Statement childStmt = ((StatementChange) diff).getChangedStatement();
+		for (Diff parentDiff : parentMatch.getDifferences()) {
+			if (parentDiff instanceof StatementChange) {
+				Statement parentStmt = ((StatementChange) parentDiff).getChangedStatement();
+				if (JaMoPPElementUtil.isParentOf(parentStmt, childStmt)) {
+					return true;
+				}
+				if (parentMatch.getRight() == parentStmt) {
+					if (JaMoPPElementUtil.isParentOf((Statement) parentMatch.getLeft(), childStmt)) {
+						return true;
+					}
+				} else if (parentMatch.getLeft() == parentStmt) {
+					if (JaMoPPElementUtil.isParentOf((Statement) parentMatch.getRight(), childStmt)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean atLeastOneDiffIsStatement(Match parentMatch) {
+		return parentMatch.getLeft() instanceof Statement || parentMatch.getRight() instanceof Statement;
+	}
+
+	private static boolean noClassElement(Match parentMatch) {
+		return !(parentMatch.getLeft() instanceof org.emftext.language.java.classifiers.Class
+				|| parentMatch.getRight() instanceof org.emftext.language.java.classifiers.Class);
+	}
+
+	private static Match getParentMatch(Match match) {
+		if (match != null && match.eContainer() instanceof Match) {
+			return (Match) match.eContainer();
+		}
+		return null;
+	}
+}
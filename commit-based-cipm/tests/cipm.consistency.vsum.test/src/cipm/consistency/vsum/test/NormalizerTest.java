@@ -0,0 +1,88 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.splevo.diffing.util.NormalizationUtil;
+import org.splevo.diffing.util.Normalizer;
+
+/**
+ * Tests that the Normalizer returns the same strings as the NormalizationUtil for the classifier, compilation unit
+ * and package normalization configurations as the JaMoPPDiffer loads them.
+ */
+public class NormalizerTest {
+	private static final String CLASSIFIER_CONFIG = String.join(System.lineSeparator(), "*Custom", "My*", "*Cust");
+	private static final String PACKAGE_CONFIG = String.join(System.lineSeparator(),
+			"org.example.customer.client|org.example.client", "org.example.customer.server|org.example.server",
+			"\\.cust\\.|.");
+	// More distinct names than the normalizer caches, so that early entries are evicted and normalized again.
+	private static final int NUMBER_OF_NAMES = 30_000;
+
+	@Test
+	public void testClassifierNormalization() {
+		check(NormalizationUtil.loadRemoveNormalizations(CLASSIFIER_CONFIG, null), classifierNames(""));
+	}
+
+	@Test
+	public void testCompilationUnitNormalization() {
+		check(NormalizationUtil.loadRemoveNormalizations(CLASSIFIER_CONFIG, ".java"), classifierNames(".java"));
+	}
+
+	@Test
+	public void testPackageNormalization() {
+		LinkedHashMap<Pattern, String> normalizations = NormalizationUtil.loadReplaceNormalizations(PACKAGE_CONFIG);
+		List<String> namespaces = new ArrayList<>(Arrays.asList(null, "", "org.example.customer.client",
+				"org.example.client", "org.example.cust.util"));
+		for (int i = 0; i < NUMBER_OF_NAMES; i++) {
+			namespaces.add("org.example.customer." + (i % 2 == 0 ? "client" : "server") + ".module" + i);
+			namespaces.add("org.example.cust.module" + i + ".cust.impl");
+		}
+
+		Normalizer normalizer = new Normalizer(normalizations);
+		for (int pass = 0; pass < 2; pass++) {
+			for (String namespace : namespaces) {
+				assertEquals(NormalizationUtil.normalizeNamespace(namespace, normalizations),
+						normalizer.normalize(namespace), namespace);
+			}
+		}
+	}
+
+	@Test
+	public void testEmptyConfiguration() {
+		check(NormalizationUtil.loadRemoveNormalizations(null, null), classifierNames(""));
+		check(NormalizationUtil.loadReplaceNormalizations(""), Arrays.asList(null, "", "org.example.client"));
+	}
+
+	private List<String> classifierNames(String suffix) {
+		List<String> names = new ArrayList<>(Arrays.asList(null, "", "Custom", "My", "MyClassCustom" + suffix));
+		for (int i = 0; i < NUMBER_OF_NAMES; i++) {
+			names.add("MyClass" + i + "Custom" + suffix);
+			names.add("Class" + i + "Cust" + suffix);
+			names.add("Class" + i + suffix);
+		}
+		return names;
+	}
+
+	/**
+	 * Normalizes the names twice with one normalizer, once while the cache is filled and once after the first names
+	 * have been evicted, and compares the results with those of the NormalizationUtil. Frequently used names are
+	 * normalized between all others so that they stay cached.
+	 */
+	private void check(LinkedHashMap<Pattern, String> normalizations, List<String> names) {
+		Normalizer normalizer = new Normalizer(normalizations);
+		String frequentName = names.get(names.size() - 1);
+		String expectedFrequentName = NormalizationUtil.normalize(frequentName, normalizations);
+		for (int pass = 0; pass < 2; pass++) {
+			for (String name : names) {
+				assertEquals(NormalizationUtil.normalize(name, normalizations), normalizer.normalize(name), name);
+				assertEquals(expectedFrequentName, normalizer.normalize(frequentName));
+			}
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.splevo.extraction.SoftwareModelExtractionException;
+import org.splevo.jamopp.diffing.JaMoPPDiffer;
+import org.splevo.jamopp.extraction.JaMoPPSoftwareModelExtractor;
+
+/**
+ * Tests that the parallel loading of the JaMoPPSoftwareModelExtractor results in the same models as the sequential
+ * loading, that it is done through the loading hook of the extractor, and that the JaMoPPDiffer configures it.
+ */
+public class ParallelJavaExtractionTest {
+	private static final int NUMBER_OF_CLASSES = 12;
+	private static final int NUMBER_OF_THREADS = 4;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void testParallelLoadingEqualsSequentialLoading() throws Exception {
+		List<String> projectPaths = List.of(writeProject("first", "a"), writeProject("second", "b"));
+
+		JaMoPPSoftwareModelExtractor sequentialExtractor = new JaMoPPSoftwareModelExtractor();
+		ResourceSet sequential = sequentialExtractor.extractSoftwareModel(projectPaths, new NullProgressMonitor());
+		JaMoPPSoftwareModelExtractor parallelExtractor = new JaMoPPSoftwareModelExtractor();
+		parallelExtractor.setLoadingThreadCount(NUMBER_OF_THREADS);
+		ResourceSet parallel = parallelExtractor.extractSoftwareModel(projectPaths, new NullProgressMonitor());
+
+		Map<String, Resource> sequentialResources = javaResources(sequential);
+		Map<String, Resource> parallelResources = javaResources(parallel);
+		assertEquals(2 * NUMBER_OF_CLASSES, sequentialResources.size());
+		assertEquals(sequentialResources.keySet(), parallelResources.keySet());
+		for (var entry : sequentialResources.entrySet()) {
+			Resource parallelResource = parallelResources.get(entry.getKey());
+			assertTrue(EcoreUtil.equals(entry.getValue().getContents(), parallelResource.getContents()),
+					entry.getKey());
+		}
+		assertEquals(unresolvedProxies(sequential), unresolvedProxies(parallel));
+	}
+
+	@Test
+	public void testParallelLoadingUsesLoadingHook() throws Exception {
+		List<String> projectPaths = List.of(writeProject("first", "a"));
+		List<Iterable<String>> hookCalls = new ArrayList<>();
+		JaMoPPSoftwareModelExtractor extractor = new JaMoPPSoftwareModelExtractor() {
+			@Override
+			protected List<Resource> loadProjectJavaFiles(ResourceSet targetResourceSet,
+					Iterable<String> paths) throws SoftwareModelExtractionException {
+				hookCalls.add(paths);
+				return super.loadProjectJavaFiles(targetResourceSet, paths);
+			}
+		};
+		extractor.setLoadingThreadCount(NUMBER_OF_THREADS);
+		ResourceSet parallel = extractor.extractSoftwareModel(projectPaths, new NullProgressMonitor());
+
+		assertEquals(List.of(projectPaths), hookCalls);
+		assertEquals(NUMBER_OF_CLASSES, javaResources(parallel).size());
+	}
+
+	@Test
+	public void testDifferConfiguresLoadingThreadCount() throws Exception {
+		String projectPath = writeProject("first", "a");
+		JaMoPPSoftwareModelExtractor extractor = new JaMoPPSoftwareModelExtractor();
+		JaMoPPDiffer differ = new JaMoPPDiffer(extractor);
+
+		differ.doDiff(Path.of(projectPath).toUri(), Path.of(projectPath).toUri(), Map.of());
+		assertEquals(JaMoPPSoftwareModelExtractor.DEFAULT_LOADING_THREAD_COUNT, extractor.getLoadingThreadCount());
+		differ.doDiff(Path.of(projectPath).toUri(), Path.of(projectPath).toUri(),
+				Map.of(JaMoPPDiffer.OPTION_LOADING_THREAD_COUNT, String.valueOf(NUMBER_OF_THREADS)));
+		assertEquals(NUMBER_OF_THREADS, extractor.getLoadingThreadCount());
+	}
+
+	private String writeProject(String name, String packageName) throws IOException {
+		Path pkg = Files.createDirectories(tempDir.resolve(name).resolve(packageName));
+		for (int i = 0; i < NUMBER_OF_CLASSES; i++) {
+			int next = (i + 1) % NUMBER_OF_CLASSES;
+			Files.writeString(pkg.resolve("C" + i + ".java"), "package " + packageName + ";\n\n"
+					+ "public class C" + i + " {\n\tprivate C" + next + " next;\n\n"
+					+ "\tpublic String name() {\n\t\treturn next == null ? \"C" + i + "\" : next.name();\n\t}\n}\n");
+		}
+		return tempDir.resolve(name).toString();
+	}
+
+	private Map<String, Resource> javaResources(ResourceSet resourceSet) throws IOException {
+		Path root = tempDir.toRealPath();
+		Map<String, Resource> resources = new TreeMap<>();
+		for (Resource resource : resourceSet.getResources()) {
+			if (resource.getURI().isFile()) {
+				Path path = Path.of(resource.getURI().toFileString());
+				if (path.startsWith(root)) {
+					resources.put(root.relativize(path).toString(), resource);
+				}
+			}
+		}
+		return resources;
+	}
+
+	private List<String> unresolvedProxies(ResourceSet resourceSet) {
+		return EcoreUtil.UnresolvedProxyCrossReferencer.find(resourceSet).keySet().stream()
+				.map(proxy -> EcoreUtil.getURI(proxy).toString()).sorted().collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,140 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntToLongFunction;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.emftext.language.java.classifiers.ClassifiersFactory;
+import org.emftext.language.java.containers.CompilationUnit;
+import org.emftext.language.java.containers.ContainersFactory;
+import org.emftext.language.java.members.ClassMethod;
+import org.emftext.language.java.members.MembersFactory;
+import org.emftext.language.java.members.Method;
+
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+
+/**
+ * Provides utility methods for the tests of single pipeline parts which do not require a V-SUM.
+ */
+public final class PerformanceTestUtil {
+	private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = Map.of(boolean.class, false, int.class, 0,
+			long.class, 0L, short.class, (short) 0, byte.class, (byte) 0, char.class, '\0', float.class, 0f,
+			double.class, 0d);
+	
+	private PerformanceTestUtil() {
+	}
+	
+	/**
+	 * Creates a correspondence model without any correspondence. Every query returns an empty result.
+	 * 
+	 * @return the empty correspondence model.
+	 */
+	public static CorrespondenceModel createEmptyCorrespondenceModel() {
+		return (CorrespondenceModel) Proxy.newProxyInstance(PerformanceTestUtil.class.getClassLoader(),
+				new Class<?>[] { CorrespondenceModel.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "toString":
+						return "EmptyCorrespondenceModel";
+					default:
+						return createEmptyValue(method.getReturnType());
+					}
+				});
+	}
+	
+	private static Object createEmptyValue(Class<?> type) {
+		if (type.isPrimitive()) {
+			return PRIMITIVE_DEFAULTS.get(type);
+		} else if (type == Set.class) {
+			return Set.of();
+		} else if (type == List.class || type == Collection.class || type == Iterable.class) {
+			return List.of();
+		} else if (type == Map.class) {
+			return Map.of();
+		} else if (type == Optional.class) {
+			return Optional.empty();
+		} else if (type == Stream.class) {
+			return Stream.empty();
+		}
+		return null;
+	}
+	
+	/**
+	 * Returns the currently used heap after a garbage collection.
+	 * 
+	 * @return the used heap in bytes.
+	 */
+	public static long getUsedHeapAfterGc() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+	
+	/**
+	 * Creates methods, each in its own class and compilation unit. The i-th method is placed in the package
+	 * org.example.p(i % numberOfPackages) and in the resource /src(i % 2)/org/example/p(i % numberOfPackages)/Ci.java.
+	 * 
+	 * @param numberOfMethods the number of methods to create.
+	 * @param numberOfPackages the number of packages over which the methods are distributed.
+	 * @return the created methods.
+	 */
+	public static List<Method> createMethods(int numberOfMethods, int numberOfPackages) {
+		List<Method> methods = new ArrayList<>();
+		for (int i = 0; i < numberOfMethods; i++) {
+			String packageName = "p" + (i % numberOfPackages);
+			CompilationUnit cu = ContainersFactory.eINSTANCE.createCompilationUnit();
+			cu.getNamespaces().addAll(List.of("org", "example", packageName));
+			cu.setName("C" + i + ".java");
+			org.emftext.language.java.classifiers.Class cls = ClassifiersFactory.eINSTANCE.createClass();
+			cls.setName("C" + i);
+			cu.getClassifiers().add(cls);
+			ClassMethod method = MembersFactory.eINSTANCE.createClassMethod();
+			method.setName("m");
+			cls.getMembers().add(method);
+			Resource resource = new ResourceImpl(URI.createFileURI("/src" + (i % 2) + "/org/example/" + packageName
+					+ "/C" + i + ".java"));
+			resource.getContents().add(cu);
+			methods.add(method);
+		}
+		return methods;
+	}
+	
+	/**
+	 * Asserts that the number of operations of an algorithm grows linearly with the size of its input. For every
+	 * size, the operations per element must not exceed a bound which an algorithm with quadratic growth exceeds for
+	 * the larger sizes.
+	 * 
+	 * @param sizes the sizes of the inputs.
+	 * @param countOperations counts the operations for an input of a size.
+	 * @param maxOperationsPerElement the maximum number of operations per element of an input.
+	 */
+	public static void assertLinearOperationCount(int[] sizes, IntToLongFunction countOperations,
+			int maxOperationsPerElement) {
+		for (int size : sizes) {
+			long operations = countOperations.applyAsLong(size);
+			assertTrue(operations <= (long) maxOperationsPerElement * size,
+					operations + " operations for an input of the size " + size);
+		}
+	}
+}
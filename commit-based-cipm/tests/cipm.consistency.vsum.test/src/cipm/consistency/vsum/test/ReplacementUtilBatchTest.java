@@ -0,0 +1,126 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.splevo.commons.emf.ReplacementUtil;
+import org.splevo.commons.emf.ReplacementUtil.CrossReferenceReplacer;
+
+/**
+ * Tests that a batch of cross reference replacements traverses the resource set only once.
+ */
+public class ReplacementUtilBatchTest {
+	private static final int NUMBER_OF_REPLACEMENTS = 1_000;
+	
+	private EClass nodeClass;
+	private EReference targetReference;
+	private EReference targetsReference;
+	private EClass referrerClass;
+	
+	@BeforeEach
+	public void setUp() {
+		EcoreFactory factory = EcoreFactory.eINSTANCE;
+		EPackage metamodel = factory.createEPackage();
+		metamodel.setName("replacement");
+		metamodel.setNsURI("http://cipm/test/replacement");
+		nodeClass = factory.createEClass();
+		nodeClass.setName("Node");
+		referrerClass = factory.createEClass();
+		referrerClass.setName("Referrer");
+		targetReference = factory.createEReference();
+		targetReference.setName("target");
+		targetReference.setEType(nodeClass);
+		targetsReference = factory.createEReference();
+		targetsReference.setName("targets");
+		targetsReference.setEType(nodeClass);
+		targetsReference.setUpperBound(-1);
+		referrerClass.getEStructuralFeatures().add(targetReference);
+		referrerClass.getEStructuralFeatures().add(targetsReference);
+		metamodel.getEClassifiers().add(nodeClass);
+		metamodel.getEClassifiers().add(referrerClass);
+	}
+	
+	@Test
+	public void testBatchTraversesResourceSetOnce() {
+		CountingResourceSet resourceSet = new CountingResourceSet();
+		Resource originals = createResource(resourceSet, "originals");
+		Resource replacements = createResource(resourceSet, "replacements");
+		Resource referrers = createResource(resourceSet, "referrers");
+		List<CrossReferenceReplacer> processors = new ArrayList<>();
+		List<EObject> singleReferrers = new ArrayList<>();
+		EObject manyReferrer = EcoreUtil.create(referrerClass);
+		referrers.getContents().add(manyReferrer);
+		for (int idx = 0; idx < NUMBER_OF_REPLACEMENTS; idx++) {
+			EObject original = EcoreUtil.create(nodeClass);
+			EObject replacement = EcoreUtil.create(nodeClass);
+			originals.getContents().add(original);
+			replacements.getContents().add(replacement);
+			EObject referrer = EcoreUtil.create(referrerClass);
+			referrer.eSet(targetReference, original);
+			referrers.getContents().add(referrer);
+			singleReferrers.add(referrer);
+			getTargets(manyReferrer).add(original);
+			processors.add(new CrossReferenceReplacer(original, replacement));
+		}
+		
+		resourceSet.resetCount();
+		ReplacementUtil.replaceCrossReferences(processors);
+		
+		assertEquals(1, resourceSet.getCount());
+		EList<EObject> targets = getTargets(manyReferrer);
+		for (int idx = 0; idx < NUMBER_OF_REPLACEMENTS; idx++) {
+			EObject replacement = processors.get(idx).getReplacement();
+			assertSame(replacement, singleReferrers.get(idx).eGet(targetReference));
+			assertSame(replacement, targets.get(idx));
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private EList<EObject> getTargets(EObject referrer) {
+		return (EList<EObject>) referrer.eGet(targetsReference);
+	}
+	
+	private Resource createResource(ResourceSetImpl resourceSet, String name) {
+		Resource resource = new ResourceImpl(URI.createURI("memory:/" + name + ".model"));
+		resourceSet.getResources().add(resource);
+		return resource;
+	}
+	
+	/**
+	 * A resource set which counts how often its resources are requested. Every traversal of the resource set
+	 * requests the resources once.
+	 */
+	private static class CountingResourceSet extends ResourceSetImpl {
+		private int count;
+		
+		@Override
+		public EList<Resource> getResources() {
+			count++;
+			return super.getResources();
+		}
+		
+		void resetCount() {
+			count = 0;
+		}
+		
+		int getCount() {
+			return count;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.splevo.commons.emf.FileResourceHandling;
+import org.splevo.commons.emf.FileResourceHandling.ResourceHandlingOptions;
+import org.splevo.commons.emf.SPLevoResourceSet;
+
+/**
+ * Benchmarks the per-call cost of getResource and getEObject of the SPLevoResourceSet for file URIs of resources
+ * in a workspace project. The SPLevoResourceSet is compared with a resource set which converts the URIs as the
+ * SPLevoResourceSet did before the converted URIs were cached and the resources were registered in the URI resource
+ * map.
+ */
+public class SPLevoResourceSetBenchmarkTest {
+	private static final Logger LOGGER = Logger
+			.getLogger("cipm." + SPLevoResourceSetBenchmarkTest.class.getSimpleName());
+	private static final String PROJECT_NAME = "splevo-resource-set-benchmark";
+	private static final int NUMBER_OF_RESOURCES = 200;
+	private static final int CALLS_PER_ROUND = 200_000;
+	private static final int NUMBER_OF_ROUNDS = 3;
+
+	private static IProject project;
+	private static List<URI> fileURIs;
+
+	@BeforeAll
+	public static void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		if (!project.exists()) {
+			project.create(new NullProgressMonitor());
+		}
+		project.open(new NullProgressMonitor());
+		fileURIs = new ArrayList<>();
+		for (int idx = 0; idx < NUMBER_OF_RESOURCES; idx++) {
+			IFile file = project.getFile(new Path("model/M" + idx + ".model"));
+			fileURIs.add(URI.createFileURI(file.getLocation().toString()));
+		}
+	}
+
+	@AfterAll
+	public static void deleteProject() throws CoreException {
+		project.delete(true, new NullProgressMonitor());
+	}
+
+	@Test
+	public void benchmarkGetResourceAndGetEObject() {
+		ResourceSet previous = createResources(new PreviousSPLevoResourceSet());
+		ResourceSet current = createResources(new SPLevoResourceSet());
+		checkLookups(previous);
+		checkLookups(current);
+
+		long previousTime = Long.MAX_VALUE;
+		long currentTime = Long.MAX_VALUE;
+		for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+			previousTime = Math.min(previousTime, measureLookups(previous));
+			currentTime = Math.min(currentTime, measureLookups(current));
+		}
+		LOGGER.info("A getResource and getEObject call for " + NUMBER_OF_RESOURCES + " resources took "
+				+ previousTime / CALLS_PER_ROUND + " ns without and " + currentTime / CALLS_PER_ROUND
+				+ " ns with the cached URI conversion and the URI resource map.");
+	}
+
+	private ResourceSet createResources(ResourceSet resourceSet) {
+		resourceSet.getLoadOptions().put(ResourceHandlingOptions.USE_PLATFORM_RESOURCE, Boolean.TRUE);
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("model", ResourceImpl::new);
+		for (URI uri : fileURIs) {
+			Resource resource = resourceSet.createResource(uri);
+			resource.getContents().add(EcoreFactory.eINSTANCE.createEPackage());
+		}
+		return resourceSet;
+	}
+
+	private void checkLookups(ResourceSet resourceSet) {
+		for (int idx = 0; idx < NUMBER_OF_RESOURCES; idx++) {
+			Resource resource = resourceSet.getResources().get(idx);
+			URI uri = fileURIs.get(idx);
+			assertSame(resource, resourceSet.getResource(uri, false));
+			assertSame(resource.getContents().get(0), resourceSet.getEObject(uri.appendFragment("/"), false));
+		}
+	}
+
+	/**
+	 * Looks up the resources and their root elements by their file URIs.
+	 *
+	 * @return the time in nanoseconds for all lookups.
+	 */
+	private long measureLookups(ResourceSet resourceSet) {
+		long start = System.nanoTime();
+		for (int call = 0; call < CALLS_PER_ROUND; call++) {
+			URI uri = fileURIs.get(call % NUMBER_OF_RESOURCES);
+			resourceSet.getResource(uri, false);
+			resourceSet.getEObject(uri.appendFragment("/"), false);
+		}
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Converts the URIs on every call and looks up resources without a URI resource map, as the SPLevoResourceSet
+	 * did before.
+	 */
+	private static class PreviousSPLevoResourceSet extends ResourceSetImpl {
+		@Override
+		public EObject getEObject(URI uri, boolean loadOnDemand) {
+			return super.getEObject(convertURI(uri), loadOnDemand);
+		}
+
+		@Override
+		public Resource getResource(URI uri, boolean loadOnDemand) {
+			return super.getResource(convertURI(uri), loadOnDemand);
+		}
+
+		@Override
+		public Resource createResource(URI uri, String contentType) {
+			return super.createResource(convertURI(uri), contentType);
+		}
+
+		private URI convertURI(URI uri) {
+			IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+			if (FileResourceHandling.usePlatformResource(this)) {
+				if (uri.isPlatform() || "pathmap".equals(uri.scheme())) {
+					return uri;
+				}
+				IFile file = root.getFileForLocation(new Path(uri.toFileString()));
+				URI convertedURI = URI.createPlatformResourceURI(file.getFullPath().toString(), true);
+				if (uri.fragment() == null || uri.fragment().isEmpty()) {
+					return convertedURI;
+				}
+				return URI.createURI(convertedURI.toString() + "#" + uri.fragment(), true,
+						URI.FRAGMENT_LAST_SEPARATOR);
+			} else if (uri.isPlatform()) {
+				IResource resource = root.findMember(uri.toPlatformString(true));
+				return URI.createFileURI(resource.getLocationURI().toString());
+			}
+			return uri;
+		}
+	}
+}
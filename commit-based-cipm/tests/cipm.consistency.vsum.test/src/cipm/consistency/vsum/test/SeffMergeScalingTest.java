@@ -0,0 +1,140 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.pcm.seff.AbstractAction;
+import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
+import org.palladiosimulator.pcm.seff.SeffFactory;
+
+import tools.cipm.seff.finegrained.ResourceDemandingBehaviourDiff;
+
+/**
+ * Tests that merging the difference of two SEFFs scales linearly with the number of actions. The operations on the
+ * steps of both SEFFs are counted.
+ */
+public class SeffMergeScalingTest {
+	private static final int[] NUMBERS_OF_ACTIONS = { 10, 100, 1_000 };
+	// The merge reads every step a constant number of times and edits every step at most once.
+	private static final int MAX_OPERATIONS_PER_ACTION = 8;
+	
+	@Test
+	public void testMergeResult() {
+		MergeScenario scenario = new MergeScenario(6);
+		scenario.merge();
+		
+		List<AbstractAction> steps = scenario.oldSeff.getSteps_Behaviour();
+		assertEquals(scenario.expectedSteps, steps);
+		for (AbstractAction step : steps) {
+			assertSame(scenario.oldSeff, step.eContainer());
+		}
+	}
+	
+	@Test
+	public void testMergeScalesLinearly() {
+		PerformanceTestUtil.assertLinearOperationCount(NUMBERS_OF_ACTIONS, numberOfActions -> {
+			MergeScenario scenario = new MergeScenario(numberOfActions);
+			CountingList oldSteps = new CountingList(scenario.oldSeff.getSteps_Behaviour());
+			CountingList newSteps = new CountingList(scenario.newSeff.getSteps_Behaviour());
+			scenario.diff.mergeSteps(oldSteps, newSteps);
+			assertEquals(scenario.expectedSteps, scenario.oldSeff.getSteps_Behaviour());
+			return oldSteps.operations + newSteps.operations;
+		}, MAX_OPERATIONS_PER_ACTION);
+	}
+	
+	/**
+	 * An old and a new SEFF with the given number of actions between their start and stop actions. Of the old
+	 * actions, one third is unmodified, one third is modified, and one third is deleted. For every deleted action,
+	 * a new action is added at its position.
+	 */
+	private static class MergeScenario {
+		private final ResourceDemandingSEFF oldSeff = SeffFactory.eINSTANCE.createResourceDemandingSEFF();
+		private final ResourceDemandingSEFF newSeff = SeffFactory.eINSTANCE.createResourceDemandingSEFF();
+		private final ResourceDemandingBehaviourDiff diff = new ResourceDemandingBehaviourDiff();
+		private final List<AbstractAction> expectedSteps = new ArrayList<>();
+		
+		MergeScenario(int numberOfActions) {
+			addMatchedPair(SeffFactory.eINSTANCE.createStartAction(), SeffFactory.eINSTANCE.createStartAction());
+			for (int idx = 0; idx < numberOfActions; idx++) {
+				AbstractAction oldAction = SeffFactory.eINSTANCE.createInternalAction();
+				AbstractAction newAction = SeffFactory.eINSTANCE.createInternalAction();
+				oldSeff.getSteps_Behaviour().add(oldAction);
+				newSeff.getSteps_Behaviour().add(newAction);
+				switch (idx % 3) {
+					case 0:
+						diff.addUnmodifiedMatching(newAction, oldAction);
+						expectedSteps.add(oldAction);
+						break;
+					case 1:
+						diff.addModifiedMatching(newAction, oldAction);
+						expectedSteps.add(newAction);
+						break;
+					default:
+						diff.addDeletedAbstractAction(oldAction);
+						diff.addAddedAbstractAction(newAction);
+						expectedSteps.add(newAction);
+						break;
+				}
+			}
+			addMatchedPair(SeffFactory.eINSTANCE.createStopAction(), SeffFactory.eINSTANCE.createStopAction());
+		}
+		
+		private void addMatchedPair(AbstractAction oldAction, AbstractAction newAction) {
+			oldSeff.getSteps_Behaviour().add(oldAction);
+			newSeff.getSteps_Behaviour().add(newAction);
+			diff.addUnmodifiedMatching(newAction, oldAction);
+			expectedSteps.add(oldAction);
+		}
+		
+		void merge() {
+			diff.mergeSteps(oldSeff.getSteps_Behaviour(), newSeff.getSteps_Behaviour());
+		}
+	}
+	
+	/**
+	 * A list of steps which counts all accesses to and edits of the steps.
+	 */
+	private static class CountingList extends AbstractList<AbstractAction> {
+		private final List<AbstractAction> steps;
+		private long operations;
+		
+		CountingList(List<AbstractAction> steps) {
+			this.steps = steps;
+		}
+		
+		@Override
+		public AbstractAction get(int index) {
+			operations++;
+			return steps.get(index);
+		}
+		
+		@Override
+		public int size() {
+			operations++;
+			return steps.size();
+		}
+		
+		@Override
+		public AbstractAction set(int index, AbstractAction element) {
+			operations++;
+			return steps.set(index, element);
+		}
+		
+		@Override
+		public void add(int index, AbstractAction element) {
+			operations++;
+			steps.add(index, element);
+		}
+		
+		@Override
+		public AbstractAction remove(int index) {
+			operations++;
+			return steps.remove(index);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package cipm.consistency.vsum.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cipm.consistency.commitintegration.settings.CommitIntegrationSettingsContainer;
+import cipm.consistency.cpr.javapcm.CommitIntegrationJavaPCMChangePropagationSpecification;
+import cipm.consistency.vsum.VSUMFacade;
+import tools.vitruv.framework.vsum.VirtualModelBuilder;
+import tools.vitruv.framework.vsum.internal.InternalVirtualModel;
+
+/**
+ * Tests that the VSUMFacade builds the V-SUM only once, regardless of whether the V-SUM already exists.
+ */
+@SuppressWarnings("restriction")
+public class VSUMFacadeTest {
+	// Static because the V-SUM is built in the constructor of the VSUMFacade before the fields of a subclass are set.
+	private static final AtomicInteger NUMBER_OF_BUILDS = new AtomicInteger();
+	
+	@TempDir
+	Path rootDir;
+	
+	@BeforeEach
+	public void setUp() {
+		if (CommitIntegrationSettingsContainer.getSettingsContainer() == null) {
+			CommitIntegrationSettingsContainer.initialize(rootDir.resolve("settings.properties"));
+		}
+		NUMBER_OF_BUILDS.set(0);
+	}
+	
+	@Test
+	public void testNewVSUMIsBuiltOnce() {
+		VSUMFacade facade = new CountingVSUMFacade(rootDir);
+		
+		assertEquals(1, NUMBER_OF_BUILDS.get());
+		assertTrue(Files.exists(facade.getFileLayout().getVsumPath()));
+		assertNotNull(facade.getPCMWrapper().getRepository().eResource());
+		assertNotNull(facade.getInstrumentationModel().eResource());
+		facade.getVSUM().dispose();
+	}
+	
+	@Test
+	public void testExistingVSUMIsBuiltOnce() {
+		new CountingVSUMFacade(rootDir).getVSUM().dispose();
+		NUMBER_OF_BUILDS.set(0);
+		
+		VSUMFacade facade = new CountingVSUMFacade(rootDir);
+		
+		assertEquals(1, NUMBER_OF_BUILDS.get());
+		assertNotNull(facade.getPCMWrapper().getRepository().eResource());
+		assertNotNull(facade.getInstrumentationModel().eResource());
+		facade.getVSUM().dispose();
+	}
+	
+	private static class CountingVSUMFacade extends VSUMFacade {
+		CountingVSUMFacade(Path rootDir) {
+			super(rootDir, new CommitIntegrationJavaPCMChangePropagationSpecification());
+		}
+		
+		@Override
+		protected InternalVirtualModel buildVirtualModel(VirtualModelBuilder builder) {
+			NUMBER_OF_BUILDS.incrementAndGet();
+			return super.buildVirtualModel(builder);
+		}
+	}
+}